@@ -0,0 +1,43 @@
+package com.brokage.benchmark;
+
+import com.brokage.domain.valueobject.AssetSymbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Compares interned AssetSymbol lookups with validating a new instance per call
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetSymbolBenchmark {
+
+    @Param({"AAPL", "aapl"})
+    private String symbol;
+
+    @Benchmark
+    public AssetSymbol interned() {
+        return AssetSymbol.of(symbol);
+    }
+
+    @Benchmark
+    public AssetSymbol validatedPerCall() {
+        return new AssetSymbol(symbol);
+    }
+
+    @Benchmark
+    public int internedId() {
+        return AssetSymbol.of(symbol).getId();
+    }
+}
@@ -0,0 +1,95 @@
+package com.brokage.benchmark;
+
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+// Compares the long-backed Money/Quantity with the previous BigDecimal-backed arithmetic
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedPointArithmeticBenchmark {
+
+    private Money price;
+    private Money balance;
+    private Quantity size;
+
+    private BigDecimal decimalPrice;
+    private BigDecimal decimalBalance;
+    private BigDecimal decimalSize;
+
+    @Setup
+    public void setUp() {
+        price = Money.of("187.35");
+        balance = Money.of("100000.00");
+        size = Quantity.of("12.50");
+
+        decimalPrice = scaled("187.35");
+        decimalBalance = scaled("100000.00");
+        decimalSize = scaled("12.50");
+    }
+
+    @Benchmark
+    public Money fixedPointReserve() {
+        Money total = price.multiply(size);
+        return balance.isGreaterThanOrEqual(total) ? balance.subtract(total) : balance;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalReserve() {
+        BigDecimal total = decimalPrice.multiply(decimalSize).setScale(2, RoundingMode.HALF_UP);
+        return decimalBalance.compareTo(total) >= 0
+                ? decimalBalance.subtract(total).setScale(2, RoundingMode.HALF_UP)
+                : decimalBalance;
+    }
+
+    @Benchmark
+    public Money fixedPointMultiply() {
+        return price.multiply(size);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalMultiply() {
+        return decimalPrice.multiply(decimalSize).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public Money fixedPointAdd() {
+        return balance.add(price);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalAdd() {
+        return decimalBalance.add(decimalPrice).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public int fixedPointCompare() {
+        return price.compareTo(balance);
+    }
+
+    @Benchmark
+    public int bigDecimalCompare() {
+        return decimalPrice.compareTo(decimalBalance);
+    }
+
+    private static BigDecimal scaled(String value) {
+        return new BigDecimal(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
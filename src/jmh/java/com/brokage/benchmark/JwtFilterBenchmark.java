@@ -0,0 +1,108 @@
+package com.brokage.benchmark;
+
+import com.brokage.domain.enums.Role;
+import com.brokage.infrastructure.security.CustomUserDetailsService;
+import com.brokage.infrastructure.security.JwtAuthenticationFilter;
+import com.brokage.infrastructure.security.JwtTokenProvider;
+import com.brokage.infrastructure.security.PrincipalCache;
+import com.brokage.infrastructure.security.UserPrincipal;
+import com.brokage.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+// Token verification and the whole JWT filter, with the principal lookup stubbed out of the DB
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890123456789012345";
+
+    private SecretKey key;
+    private String token;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000, false, false, 0, 0);
+        cachedProvider = new JwtTokenProvider(SECRET, 3_600_000, false, true, 10_000, 300);
+
+        UserPrincipal principal = new UserPrincipal(42L, "customer42", null, Role.CUSTOMER);
+        token = cachedProvider.generateToken(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(null) {
+            @Override
+            public UserPrincipal loadUserById(Long id) {
+                return principal;
+            }
+        };
+        uncachedFilter = new JwtAuthenticationFilter(uncachedProvider, userDetailsService, new PrincipalCache(false, 0, 0));
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider, userDetailsService, new PrincipalCache(true, 10_000, 60));
+
+        request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    // What validateToken followed by getUserIdFromJWT used to cost: two parsers, two signature checks
+    @Benchmark
+    public Long legacyValidateThenParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        return uncachedProvider.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cachedProvider.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Object filterUncached() throws Exception {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
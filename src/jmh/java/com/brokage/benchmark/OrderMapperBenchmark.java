@@ -0,0 +1,67 @@
+package com.brokage.benchmark;
+
+import com.brokage.application.dto.response.OrderResponse;
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.application.mapper.OrderMapperImpl;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Mapping a page of orders to responses, at the default and the maximum page size
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private final OrderMapper orderMapper = new OrderMapperImpl();
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        String[] symbols = {"AAPL", "MSFT", "GOOG", "AMZN"};
+        LocalDateTime createdDate = LocalDateTime.now();
+        orders = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Order order = new Order();
+            order.setId((long) i + 1);
+            order.setCustomerId(42L);
+            order.setAssetSymbol(AssetSymbol.of(symbols[i % symbols.length]));
+            order.setOrderSide(i % 2 == 0 ? OrderSide.BUY : OrderSide.SELL);
+            order.setSize(Quantity.of(String.valueOf(1 + i % 100)));
+            order.setPrice(Money.of("187.35"));
+            order.setStatus(OrderStatus.PENDING);
+            order.setCreatedDate(createdDate.minusSeconds(i));
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public List<OrderResponse> toResponseList() {
+        return orderMapper.toResponseList(orders);
+    }
+}
@@ -0,0 +1,50 @@
+package com.brokage.benchmark;
+
+import com.brokage.domain.valueobject.UsableSize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Balance reservation as done for every accepted order, and the release done on cancel
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsableSizeBenchmark {
+
+    private UsableSize usableSize;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        usableSize = UsableSize.of(new BigDecimal("100000.00"));
+        amount = new BigDecimal("2341.88");
+    }
+
+    @Benchmark
+    public UsableSize reserve() {
+        return usableSize.reserve(amount);
+    }
+
+    @Benchmark
+    public UsableSize checkThenReserve() {
+        return usableSize.canReserve(amount) ? usableSize.reserve(amount) : usableSize;
+    }
+
+    @Benchmark
+    public UsableSize release() {
+        return usableSize.release(amount);
+    }
+}
@@ -1,10 +1,21 @@
 package com.brokage.api.controller;
 
-import com.brokage.application.dto.response.OrderResponse;
+import com.brokage.application.dto.request.BulkMatchRequest;
+import com.brokage.application.dto.response.BalanceLockStatsResponse;
+import com.brokage.application.dto.response.BulkMatchResponse;
+import com.brokage.application.dto.response.OrderPageResponse;
+import com.brokage.application.dto.response.PortfolioCacheStatsResponse;
+import com.brokage.application.mapper.AssetMapper;
+import com.brokage.application.mapper.BalanceLockMapper;
 import com.brokage.application.mapper.OrderMapper;
+import com.brokage.application.service.asset.BalanceLockManager;
+import com.brokage.application.service.asset.PortfolioCache;
+import com.brokage.application.service.order.BulkMatchResult;
 import com.brokage.application.service.order.FetchOrderService;
-import com.brokage.application.service.order.MatchOrderService;
-import com.brokage.domain.entity.Order;
+import com.brokage.application.service.order.OrderCommandDispatcher;
+import com.brokage.application.service.order.OrderPage;
+import com.brokage.application.service.order.PendingOrderFilter;
+import com.brokage.domain.enums.OrderSide;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -14,11 +25,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @RestController
@@ -30,19 +45,29 @@ import java.util.List;
 public class AdminController {
 
     private final FetchOrderService fetchOrderService;
-    private final MatchOrderService matchOrderService;
+    private final OrderCommandDispatcher orderCommandDispatcher;
     private final OrderMapper orderMapper;
+    private final BalanceLockManager balanceLockManager;
+    private final BalanceLockMapper balanceLockMapper;
+    private final PortfolioCache portfolioCache;
+    private final AssetMapper assetMapper;
 
     @GetMapping("/orders/pending")
     @Operation(
-            summary = "Get all pending orders",
-            description = "Retrieve all pending orders across all customers (Admin only)"
+            summary = "Get pending orders",
+            description = "Retrieve pending orders across all customers, oldest first, one page at a time. "
+                    + "Optional filters narrow the feed by asset, side, customer and creation date (Admin only)"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Pending orders retrieved successfully",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = OrderResponse.class)))
+                    content = @Content(schema = @Schema(implementation = OrderPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter, cursor or page size",
+                    content = @Content
             ),
             @ApiResponse(
                     responseCode = "401",
@@ -55,10 +80,20 @@ public class AdminController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<OrderResponse>> getPendingOrders() {
-        List<Order> orders = fetchOrderService.getPendingOrders();
-        List<OrderResponse> responses = orderMapper.toResponseList(orders);
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<OrderPageResponse> getPendingOrders(
+            @Parameter(description = "Asset name (stock symbol)") @RequestParam(required = false) String assetName,
+            @Parameter(description = "Order side") @RequestParam(required = false) OrderSide orderSide,
+            @Parameter(description = "Customer ID") @RequestParam(required = false) Long customerId,
+            @Parameter(description = "Earliest creation date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Latest creation date (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at the configured maximum (default 50)") @RequestParam(required = false) Integer size) {
+
+        PendingOrderFilter filter = new PendingOrderFilter(assetName, orderSide, customerId,
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.atTime(LocalTime.MAX) : null);
+        OrderPage page = fetchOrderService.getPendingOrderPage(filter, cursor, size);
+        return ResponseEntity.ok(orderMapper.toPageResponse(page));
     }
 
     @PostMapping("/orders/{orderId}/match")
@@ -89,7 +124,94 @@ public class AdminController {
     })
     public ResponseEntity<Void> matchOrder(
             @Parameter(description = "Order ID to match", required = true) @PathVariable Long orderId) {
-        matchOrderService.matchOrder(orderId);
+        orderCommandDispatcher.matchOrder(orderId);
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/orders/match")
+    @Operation(
+            summary = "Match pending orders in bulk",
+            description = "Match every pending order of an asset, or the given order ids, in one transaction (Admin only)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Orders matched; orders that could not be matched are listed with a reason",
+                    content = @Content(schema = @Schema(implementation = BulkMatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid selector or too many order ids",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Authentication required",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Admin role required",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<BulkMatchResponse> matchOrders(@Valid @RequestBody BulkMatchRequest request) {
+        BulkMatchResult result = request.getOrderIds() != null && !request.getOrderIds().isEmpty()
+                ? orderCommandDispatcher.matchOrders(request.getOrderIds())
+                : orderCommandDispatcher.matchPendingOrders(request.getAssetName());
+        return ResponseEntity.ok(orderMapper.toBulkMatchResponse(result));
+    }
+
+    @GetMapping("/balance-locks")
+    @Operation(
+            summary = "Get balance lock contention",
+            description = "Retrieve in-process balance lock wait and hold times per customer, most contended first (Admin only)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Balance lock statistics retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = BalanceLockStatsResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Authentication required",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Admin role required",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<List<BalanceLockStatsResponse>> getBalanceLockStats() {
+        List<BalanceLockStatsResponse> responses = balanceLockMapper.toResponseList(balanceLockManager.getStats());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/portfolio-cache")
+    @Operation(
+            summary = "Get portfolio cache statistics",
+            description = "Retrieve hit and miss counts of the customer portfolio cache behind GET /api/assets (Admin only)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Portfolio cache statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PortfolioCacheStatsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Authentication required",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Admin role required",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<PortfolioCacheStatsResponse> getPortfolioCacheStats() {
+        return ResponseEntity.ok(assetMapper.toResponse(portfolioCache.getStats()));
+    }
 }
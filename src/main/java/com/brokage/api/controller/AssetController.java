@@ -1,9 +1,7 @@
 package com.brokage.api.controller;
 
 import com.brokage.application.dto.response.AssetResponse;
-import com.brokage.application.mapper.AssetMapper;
 import com.brokage.application.service.asset.FetchAssetService;
-import com.brokage.domain.entity.Asset;
 import com.brokage.infrastructure.security.annotation.ValidateCustomerAccess;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,7 +29,6 @@ import java.util.List;
 public class AssetController {
 
     private final FetchAssetService fetchAssetService;
-    private final AssetMapper assetMapper;
 
     @GetMapping
     @ValidateCustomerAccess
@@ -59,8 +56,6 @@ public class AssetController {
     public ResponseEntity<List<AssetResponse>> getAssets(
             @Parameter(description = "Customer ID", required = true) @RequestParam Long customerId) {
 
-        List<Asset> assets = fetchAssetService.getCustomerAssets(customerId);
-        List<AssetResponse> responses = assetMapper.toResponseList(assets);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(fetchAssetService.getCustomerPortfolio(customerId));
     }
 }
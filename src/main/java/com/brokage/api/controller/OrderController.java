@@ -1,16 +1,21 @@
 package com.brokage.api.controller;
 
+import com.brokage.application.dto.request.BatchCreateOrderRequest;
 import com.brokage.application.dto.request.CreateOrderRequest;
+import com.brokage.application.dto.response.BatchOrderResponse;
+import com.brokage.application.dto.response.OrderPageResponse;
 import com.brokage.application.dto.response.OrderResponse;
 import com.brokage.application.mapper.OrderMapper;
-import com.brokage.application.service.order.CancelOrderService;
-import com.brokage.application.service.order.CreateOrderService;
+import com.brokage.application.service.order.BatchOrderResult;
 import com.brokage.application.service.order.FetchOrderService;
+import com.brokage.application.service.order.OrderCommandDispatcher;
+import com.brokage.application.service.order.OrderExportService;
+import com.brokage.application.service.order.OrderPage;
+import com.brokage.application.service.order.OrderStatusStreamService;
 import com.brokage.domain.entity.Order;
 import com.brokage.infrastructure.security.annotation.ValidateCustomerAccess;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,9 +26,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,9 +45,12 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class OrderController {
 
-    private final CreateOrderService createOrderService;
+    static final String NDJSON = "application/x-ndjson";
+
+    private final OrderCommandDispatcher orderCommandDispatcher;
     private final FetchOrderService fetchOrderService;
-    private final CancelOrderService cancelOrderService;
+    private final OrderExportService orderExportService;
+    private final OrderStatusStreamService orderStatusStreamService;
     private final OrderMapper orderMapper;
 
     @PostMapping
@@ -71,22 +82,62 @@ public class OrderController {
             )
     })
     public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        Order order = createOrderService.createOrder(request);
+        Order order = orderCommandDispatcher.createOrder(request);
         OrderResponse response = orderMapper.toResponse(order);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or #request.orders.?[customerId != #root.principal.id].isEmpty()")
+    @Operation(
+            summary = "Create orders in a batch",
+            description = "Place many orders in one transaction. Each balance is reserved once for all orders drawing on it. " +
+                    "Orders that are invalid or exceed the remaining balance are rejected individually."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-order results",
+                    content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty batch or batch larger than the configured maximum",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Authentication required",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - can only create orders for own customer ID",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<BatchOrderResponse> createOrders(@Valid @RequestBody BatchCreateOrderRequest request) {
+        List<BatchOrderResult> results = orderCommandDispatcher.createOrders(request.getOrders());
+        return ResponseEntity.ok(orderMapper.toBatchResponse(results));
+    }
+
     @GetMapping
     @ValidateCustomerAccess
     @Operation(
             summary = "Get customer orders",
-            description = "Retrieve orders for a customer, optionally filtered by date range"
+            description = "Retrieve a page of orders for a customer, newest first, optionally filtered by date range. " +
+                    "Pass the returned nextCursor to fetch the following page."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Orders retrieved successfully",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = OrderResponse.class)))
+                    content = @Content(schema = @Schema(implementation = OrderPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content
             ),
             @ApiResponse(
                     responseCode = "401",
@@ -99,22 +150,88 @@ public class OrderController {
                     content = @Content
             )
     })
-    public ResponseEntity<List<OrderResponse>> getOrders(
+    public ResponseEntity<OrderPageResponse> getOrders(
             @Parameter(description = "Customer ID", required = true) @RequestParam Long customerId,
             @Parameter(description = "Start date for filtering (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @Parameter(description = "End date for filtering (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @Parameter(description = "End date for filtering (YYYY-MM-DD)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at the configured maximum (default 50)") @RequestParam(required = false) Integer size) {
 
-        List<Order> orders;
+        LocalDateTime start = null;
+        LocalDateTime end = null;
         if (startDate != null && endDate != null) {
-            LocalDateTime start = startDate.atStartOfDay();
-            LocalDateTime end = endDate.atTime(LocalTime.MAX);
-            orders = fetchOrderService.getCustomerOrdersByDateRange(customerId, start, end);
-        } else {
-            orders = fetchOrderService.getCustomerOrders(customerId);
+            start = startDate.atStartOfDay();
+            end = endDate.atTime(LocalTime.MAX);
         }
 
-        List<OrderResponse> responses = orderMapper.toResponseList(orders);
-        return ResponseEntity.ok(responses);
+        OrderPage page = fetchOrderService.getCustomerOrderPage(customerId, start, end, cursor, size);
+        return ResponseEntity.ok(orderMapper.toPageResponse(page));
+    }
+
+    @GetMapping(value = "/export", produces = OrderController.NDJSON)
+    @ValidateCustomerAccess
+    @Operation(
+            summary = "Export customer orders",
+            description = "Stream the full order history of a customer as newline-delimited JSON, oldest first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Orders streamed, one OrderResponse object per line",
+                    content = @Content(mediaType = OrderController.NDJSON, schema = @Schema(implementation = OrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Authentication required",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - can only export own orders",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "Customer ID", required = true) @RequestParam Long customerId) {
+
+        StreamingResponseBody body = out -> orderExportService.exportCustomerOrders(customerId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ValidateCustomerAccess
+    @Operation(
+            summary = "Stream order status changes",
+            description = "Server-Sent Events stream that pushes an order-status event whenever an order of the customer "
+                    + "is matched or canceled. Events are sent after the change is committed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream opened; each order-status event carries the order as JSON",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = OrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many open streams for the customer",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Authentication required",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - can only stream own orders",
+                    content = @Content
+            )
+    })
+    public SseEmitter streamOrderStatus(
+            @Parameter(description = "Customer ID", required = true) @RequestParam Long customerId) {
+        return orderStatusStreamService.subscribe(customerId);
     }
 
     @DeleteMapping("/{orderId}")
@@ -148,7 +265,7 @@ public class OrderController {
             @Parameter(description = "Order ID to cancel", required = true) @PathVariable Long orderId,
             @Parameter(description = "Customer ID", required = true) @RequestParam Long customerId) {
 
-        cancelOrderService.cancelOrder(orderId, customerId);
+        orderCommandDispatcher.cancelOrder(orderId, customerId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,94 @@
+package com.brokage.api.websocket;
+
+import com.brokage.application.service.marketdata.MarketDataFeed;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accepts {"action":"subscribe","symbol":"AAPL"} and {"action":"unsubscribe","symbol":"AAPL"} messages
+ * and hands the subscriptions to the market data feed. Sessions are wrapped so that a client which stops
+ * reading is disconnected once its send buffer or send time limit is exceeded.
+ */
+@Component
+@Slf4j
+public class MarketDataWebSocketHandler extends TextWebSocketHandler {
+
+    private final MarketDataFeed marketDataFeed;
+    private final MatchingEngine matchingEngine;
+    private final ObjectMapper objectMapper;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimit;
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public MarketDataWebSocketHandler(MarketDataFeed marketDataFeed,
+                                      MatchingEngine matchingEngine,
+                                      ObjectMapper objectMapper,
+                                      @Value("${app.market-data.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+                                      @Value("${app.market-data.buffer-size-limit:524288}") int bufferSizeLimit) {
+        this.marketDataFeed = marketDataFeed;
+        this.matchingEngine = matchingEngine;
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, bufferSizeLimit));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        WebSocketSession subscriber = sessions.getOrDefault(session.getId(), session);
+        try {
+            JsonNode request = objectMapper.readTree(message.getPayload());
+            String action = request.path("action").asText();
+            // Only traded symbols are accepted, so clients cannot register symbols or open empty books
+            AssetSymbol symbol = AssetSymbol.traded(request.path("symbol").asText(null));
+            if (symbol.isCurrency()) {
+                throw new IllegalArgumentException("No order book for currency " + symbol.getSymbol());
+            }
+            switch (action) {
+                case "subscribe" -> {
+                    if (marketDataFeed.watch(symbol)) {
+                        matchingEngine.publishBook(symbol);
+                    }
+                    marketDataFeed.subscribe(subscriber, symbol);
+                }
+                case "unsubscribe" -> marketDataFeed.unsubscribe(subscriber, symbol);
+                default -> throw new IllegalArgumentException("Unknown action: " + action);
+            }
+        } catch (IOException ex) {
+            marketDataFeed.sendError(subscriber, "Malformed message");
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            marketDataFeed.sendError(subscriber, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        WebSocketSession subscriber = sessions.remove(session.getId());
+        if (subscriber != null) {
+            marketDataFeed.unsubscribeAll(subscriber);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Market data transport error on session {}: {}", session.getId(), exception.getMessage());
+    }
+}
@@ -0,0 +1,33 @@
+package com.brokage.application.dto.event;
+
+import com.brokage.application.dto.response.AssetResponse;
+import com.brokage.application.dto.response.OrderResponse;
+import com.brokage.domain.enums.OrderEventType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Outbox payload: the order and the customer's affected balances as they were right after the change
+@Data
+public class OrderEvent {
+
+    private OrderEventType eventType;
+
+    private LocalDateTime occurredAt;
+
+    private OrderResponse order;
+
+    private BigDecimal filledSize;
+
+    // Set on fill events only: the price and size of this fill
+    private BigDecimal fillPrice;
+
+    private BigDecimal fillSize;
+
+    // Price times size of the whole order
+    private BigDecimal amount;
+
+    private List<AssetResponse> balances;
+}
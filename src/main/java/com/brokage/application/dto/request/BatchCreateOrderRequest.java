@@ -0,0 +1,16 @@
+package com.brokage.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+// Orders are validated one by one so that an invalid order is rejected without failing the batch
+@Data
+@Schema(description = "Batch of orders placed in one transaction")
+public class BatchCreateOrderRequest {
+    @NotEmpty
+    @Schema(description = "Orders to place, in submission order", required = true)
+    private List<CreateOrderRequest> orders;
+}
@@ -0,0 +1,26 @@
+package com.brokage.application.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Selects the pending orders to match: every pending order of a symbol, or the given order ids")
+public class BulkMatchRequest {
+    @Schema(description = "Asset name whose pending orders are all matched", example = "AAPL")
+    private String assetName;
+
+    @Schema(description = "Ids of the orders to match", example = "[1, 2, 3]")
+    private List<Long> orderIds;
+
+    @JsonIgnore
+    @AssertTrue(message = "Exactly one of assetName or orderIds must be given")
+    public boolean isSingleSelector() {
+        boolean hasSymbol = assetName != null && !assetName.isBlank();
+        boolean hasIds = orderIds != null && !orderIds.isEmpty();
+        return hasSymbol != hasIds;
+    }
+}
@@ -1,6 +1,7 @@
 package com.brokage.application.dto.request;
 
 import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -24,13 +25,17 @@ public class CreateOrderRequest {
     @Schema(description = "Order side", example = "BUY", required = true)
     private OrderSide orderSide;
 
+    @NotNull
+    @Schema(description = "LIMIT rests in the book at its price, MARKET executes right away and cancels what it cannot fill",
+            example = "LIMIT", defaultValue = "LIMIT")
+    private OrderType orderType = OrderType.LIMIT;
+
     @NotNull
     @DecimalMin(value = "0.01", message = "Size must be greater than 0")
     @Schema(description = "Number of shares", example = "10", required = true)
     private BigDecimal size;
 
-    @NotNull
     @DecimalMin(value = "0.01", message = "Price must be greater than 0")
-    @Schema(description = "Price per share", example = "150.00", required = true)
+    @Schema(description = "Price per share, required for LIMIT orders and not allowed for MARKET orders", example = "150.00")
     private BigDecimal price;
 }
@@ -0,0 +1,29 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "In-process balance lock contention of a customer")
+public class BalanceLockStatsResponse {
+    @Schema(description = "Customer ID", example = "1")
+    private Long customerId;
+
+    @Schema(description = "Number of balance locks acquired", example = "1250")
+    private long acquisitions;
+
+    @Schema(description = "Number of lock attempts that timed out", example = "0")
+    private long timeouts;
+
+    @Schema(description = "Average time spent waiting for a balance lock in milliseconds", example = "0.42")
+    private double averageWaitMillis;
+
+    @Schema(description = "Longest time spent waiting for a balance lock in milliseconds", example = "12.5")
+    private double maxWaitMillis;
+
+    @Schema(description = "Average time a balance lock was held in milliseconds", example = "1.8")
+    private double averageHoldMillis;
+
+    @Schema(description = "Longest time a balance lock was held in milliseconds", example = "25.1")
+    private double maxHoldMillis;
+}
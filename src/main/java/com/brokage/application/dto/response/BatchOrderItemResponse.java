@@ -0,0 +1,20 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Outcome of one order of a batch")
+public class BatchOrderItemResponse {
+    @Schema(description = "Position of the order in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the order was placed", example = "true")
+    private boolean accepted;
+
+    @Schema(description = "Placed order, absent when rejected")
+    private OrderResponse order;
+
+    @Schema(description = "Rejection reason, absent when accepted", example = "Insufficient TRY balance")
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Per-order outcome of a batch")
+public class BatchOrderResponse {
+    @Schema(description = "Number of orders placed", example = "98")
+    private int acceptedCount;
+
+    @Schema(description = "Number of orders rejected", example = "2")
+    private int rejectedCount;
+
+    @Schema(description = "Outcome of each order, in request order")
+    private List<BatchOrderItemResponse> results;
+}
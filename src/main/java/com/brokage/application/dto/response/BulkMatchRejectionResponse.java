@@ -0,0 +1,14 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Order that could not be matched")
+public class BulkMatchRejectionResponse {
+    @Schema(description = "Order ID", example = "42")
+    private Long orderId;
+
+    @Schema(description = "Reason the order was not matched", example = "Only pending orders can be matched")
+    private String reason;
+}
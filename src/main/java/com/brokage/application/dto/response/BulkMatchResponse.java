@@ -0,0 +1,19 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Outcome of a bulk match")
+public class BulkMatchResponse {
+    @Schema(description = "Number of orders matched", example = "12000")
+    private int matchedCount;
+
+    @Schema(description = "Number of orders that could not be matched", example = "1")
+    private int rejectedCount;
+
+    @Schema(description = "Orders that could not be matched")
+    private List<BulkMatchRejectionResponse> rejected;
+}
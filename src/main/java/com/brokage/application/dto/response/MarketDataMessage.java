@@ -0,0 +1,45 @@
+package com.brokage.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Market data WebSocket message")
+public class MarketDataMessage {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String UPDATE = "update";
+    public static final String ERROR = "error";
+
+    @Schema(description = "snapshot, update or error", example = "update")
+    private String type;
+
+    @Schema(description = "Asset name", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Per-symbol sequence number; an update applies to the message with the previous number", example = "42")
+    private Long sequence;
+
+    @Schema(description = "Best bid price, absent when there are no bids", example = "149.50")
+    private BigDecimal bestBid;
+
+    @Schema(description = "Best ask price, absent when there are no asks", example = "150.00")
+    private BigDecimal bestAsk;
+
+    @Schema(description = "Bid levels: the full depth in a snapshot, only changed levels in an update")
+    private List<PriceLevelResponse> bids;
+
+    @Schema(description = "Ask levels: the full depth in a snapshot, only changed levels in an update")
+    private List<PriceLevelResponse> asks;
+
+    @Schema(description = "Trades executed since the previous update")
+    private List<TradeResponse> trades;
+
+    @Schema(description = "Error description", example = "Unknown action")
+    private String message;
+}
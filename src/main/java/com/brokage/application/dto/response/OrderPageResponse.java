@@ -0,0 +1,16 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Page of orders, newest first")
+public class OrderPageResponse {
+    @Schema(description = "Orders in this page")
+    private List<OrderResponse> orders;
+    
+    @Schema(description = "Opaque cursor for the next page, absent on the last page", example = "MjAyMy0xMi0wMVQxMDozMDp8NDI")
+    private String nextCursor;
+}
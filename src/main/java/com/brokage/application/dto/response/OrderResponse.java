@@ -2,6 +2,7 @@ package com.brokage.application.dto.response;
 
 import com.brokage.domain.enums.OrderSide;
 import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.enums.OrderType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -23,10 +24,13 @@ public class OrderResponse {
     @Schema(description = "Order side", example = "BUY")
     private OrderSide orderSide;
     
+    @Schema(description = "Order type", example = "LIMIT")
+    private OrderType orderType;
+    
     @Schema(description = "Number of shares", example = "10")
     private BigDecimal size;
     
-    @Schema(description = "Price per share", example = "150.00")
+    @Schema(description = "Price per share; the price limit derived from the book for MARKET orders", example = "150.00")
     private BigDecimal price;
     
     @Schema(description = "Order status", example = "PENDING")
@@ -0,0 +1,26 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Portfolio cache hit and miss statistics since startup")
+public class PortfolioCacheStatsResponse {
+    @Schema(description = "Whether portfolios are cached", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "Portfolio reads served from the cache", example = "48210")
+    private long hitCount;
+
+    @Schema(description = "Portfolio reads that loaded from the database", example = "1532")
+    private long missCount;
+
+    @Schema(description = "Share of reads served from the cache", example = "0.969")
+    private double hitRate;
+
+    @Schema(description = "Portfolios dropped because of the size limit or expiry", example = "12")
+    private long evictionCount;
+
+    @Schema(description = "Approximate number of cached portfolios", example = "840")
+    private long size;
+}
@@ -0,0 +1,16 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Schema(description = "Aggregated resting quantity at one price")
+public class PriceLevelResponse {
+    @Schema(description = "Price", example = "150.00")
+    private BigDecimal price;
+
+    @Schema(description = "Total resting quantity, 0 when the level was removed", example = "25.00")
+    private BigDecimal quantity;
+}
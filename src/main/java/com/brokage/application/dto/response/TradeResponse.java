@@ -0,0 +1,16 @@
+package com.brokage.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Schema(description = "Executed trade")
+public class TradeResponse {
+    @Schema(description = "Execution price", example = "150.00")
+    private BigDecimal price;
+
+    @Schema(description = "Executed quantity", example = "10.00")
+    private BigDecimal quantity;
+}
@@ -1,6 +1,8 @@
 package com.brokage.application.mapper;
 
 import com.brokage.application.dto.response.AssetResponse;
+import com.brokage.application.dto.response.PortfolioCacheStatsResponse;
+import com.brokage.application.service.asset.PortfolioCacheStats;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.valueobject.AssetSymbol;
 import com.brokage.domain.valueobject.Quantity;
@@ -22,6 +24,8 @@ public interface AssetMapper {
 
     List<AssetResponse> toResponseList(List<Asset> assets);
 
+    PortfolioCacheStatsResponse toResponse(PortfolioCacheStats stats);
+
     @Named("assetSymbolToString")
     default String assetSymbolToString(AssetSymbol assetSymbol) {
         return assetSymbol != null ? assetSymbol.getSymbol() : null;
@@ -0,0 +1,15 @@
+package com.brokage.application.mapper;
+
+import com.brokage.application.dto.response.BalanceLockStatsResponse;
+import com.brokage.application.service.asset.BalanceLockStats;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface BalanceLockMapper {
+
+    BalanceLockStatsResponse toResponse(BalanceLockStats stats);
+
+    List<BalanceLockStatsResponse> toResponseList(List<BalanceLockStats> stats);
+}
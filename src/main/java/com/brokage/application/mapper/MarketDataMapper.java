@@ -0,0 +1,32 @@
+package com.brokage.application.mapper;
+
+import com.brokage.application.dto.response.PriceLevelResponse;
+import com.brokage.application.dto.response.TradeResponse;
+import com.brokage.application.service.matching.BookLevel;
+import com.brokage.application.service.matching.Fill;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import org.mapstruct.Mapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface MarketDataMapper {
+
+    PriceLevelResponse toResponse(BookLevel level);
+
+    List<PriceLevelResponse> toLevelResponseList(List<BookLevel> levels);
+
+    TradeResponse toResponse(Fill fill);
+
+    List<TradeResponse> toTradeResponseList(List<Fill> fills);
+
+    default BigDecimal moneyToBigDecimal(Money money) {
+        return money != null ? money.getAmount() : null;
+    }
+
+    default BigDecimal quantityToBigDecimal(Quantity quantity) {
+        return quantity != null ? quantity.getValue() : null;
+    }
+}
@@ -1,7 +1,15 @@
 package com.brokage.application.mapper;
 
 import com.brokage.application.dto.request.CreateOrderRequest;
+import com.brokage.application.dto.response.BatchOrderItemResponse;
+import com.brokage.application.dto.response.BatchOrderResponse;
+import com.brokage.application.dto.response.BulkMatchRejectionResponse;
+import com.brokage.application.dto.response.BulkMatchResponse;
+import com.brokage.application.dto.response.OrderPageResponse;
 import com.brokage.application.dto.response.OrderResponse;
+import com.brokage.application.service.order.BatchOrderResult;
+import com.brokage.application.service.order.BulkMatchResult;
+import com.brokage.application.service.order.OrderPage;
 import com.brokage.domain.entity.Order;
 import com.brokage.domain.valueobject.AssetSymbol;
 import com.brokage.domain.valueobject.Money;
@@ -19,6 +27,7 @@ public interface OrderMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdDate", ignore = true)
     @Mapping(target = "lastModifiedDate", ignore = true)
+    @Mapping(target = "filledSize", ignore = true)
     @Mapping(target = "status", constant = "PENDING")
     @Mapping(source = "assetName", target = "assetSymbol", qualifiedByName = "stringToAssetSymbol")
     @Mapping(source = "size", target = "size", qualifiedByName = "bigDecimalToQuantity")
@@ -32,6 +41,25 @@ public interface OrderMapper {
 
     List<OrderResponse> toResponseList(List<Order> orders);
 
+    OrderPageResponse toPageResponse(OrderPage page);
+
+    BatchOrderItemResponse toBatchItemResponse(BatchOrderResult result);
+
+    List<BatchOrderItemResponse> toBatchItemResponseList(List<BatchOrderResult> results);
+
+    @Mapping(target = "rejectedCount", expression = "java(result.getRejected().size())")
+    BulkMatchResponse toBulkMatchResponse(BulkMatchResult result);
+
+    BulkMatchRejectionResponse toBulkMatchRejectionResponse(BulkMatchResult.Rejection rejection);
+
+    default BatchOrderResponse toBatchResponse(List<BatchOrderResult> results) {
+        BatchOrderResponse response = new BatchOrderResponse();
+        response.setResults(toBatchItemResponseList(results));
+        response.setAcceptedCount((int) results.stream().filter(BatchOrderResult::isAccepted).count());
+        response.setRejectedCount(results.size() - response.getAcceptedCount());
+        return response;
+    }
+
     @Named("stringToAssetSymbol")
     default AssetSymbol stringToAssetSymbol(String assetName) {
         return assetName != null ? AssetSymbol.of(assetName) : null;
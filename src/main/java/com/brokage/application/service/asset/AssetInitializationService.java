@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -19,11 +20,22 @@ public class AssetInitializationService {
     
     @Transactional
     public void initializeCustomerWithTRY(Long customerId, BigDecimal initialAmount) {
+        assetRepository.save(tryAsset(customerId, initialAmount));
+    }
+    
+    @Transactional
+    public void initializeCustomersWithTRY(Map<Long, BigDecimal> initialAmounts) {
+        assetRepository.saveAll(initialAmounts.entrySet().stream()
+                .map(entry -> tryAsset(entry.getKey(), entry.getValue()))
+                .toList());
+    }
+    
+    private Asset tryAsset(Long customerId, BigDecimal initialAmount) {
         Asset tryAsset = new Asset();
         tryAsset.setCustomerId(customerId);
         tryAsset.setAssetSymbol(AssetSymbol.trySymbol());
         tryAsset.setSize(Quantity.of(initialAmount));
         tryAsset.setUsableSize(UsableSize.of(initialAmount));
-        assetRepository.save(tryAsset);
+        return tryAsset;
     }
 }
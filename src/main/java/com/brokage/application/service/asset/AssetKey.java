@@ -0,0 +1,16 @@
+package com.brokage.application.service.asset;
+
+import lombok.Value;
+
+import java.util.Comparator;
+
+@Value(staticConstructor = "of")
+public class AssetKey {
+
+    // Balances are always locked in this order so that multi-balance operations cannot deadlock
+    public static final Comparator<AssetKey> LOCK_ORDER =
+            Comparator.comparing(AssetKey::getCustomerId).thenComparing(AssetKey::getAssetName);
+
+    Long customerId;
+    String assetName;
+}
@@ -0,0 +1,5 @@
+package com.brokage.application.service.asset;
+
+public enum AssetLockMode {
+    PESSIMISTIC, OPTIMISTIC
+}
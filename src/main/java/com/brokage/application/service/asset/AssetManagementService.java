@@ -5,35 +5,103 @@ import com.brokage.domain.valueobject.AssetSymbol;
 import com.brokage.domain.valueobject.Quantity;
 import com.brokage.domain.valueobject.UsableSize;
 import com.brokage.infrastructure.repository.AssetRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class AssetManagementService {
 
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
     private final AssetRepository assetRepository;
+    private final BalanceLockManager balanceLockManager;
+    private final AssetLockMode lockMode;
+
+    public AssetManagementService(AssetRepository assetRepository,
+                                  BalanceLockManager balanceLockManager,
+                                  @Value("${app.asset.lock-mode:PESSIMISTIC}") AssetLockMode lockMode) {
+        this.assetRepository = assetRepository;
+        this.balanceLockManager = balanceLockManager;
+        this.lockMode = lockMode;
+    }
 
     @Transactional
     public Asset getOrCreateAsset(Long customerId, String assetName) {
-        return assetRepository.findByCustomerIdAndAssetNameForUpdate(customerId, assetName)
+        return findForUpdate(customerId, assetName)
                 .orElseGet(() -> createAsset(customerId, assetName));
     }
 
     @Transactional
     public Asset getAssetForUpdate(Long customerId, String assetName) {
-        return assetRepository.findByCustomerIdAndAssetNameForUpdate(customerId, assetName)
+        return findForUpdate(customerId, assetName)
                 .orElseThrow(() -> new IllegalArgumentException("Asset not found"));
     }
 
+    @Transactional
+    public Optional<Asset> findAssetForUpdate(Long customerId, String assetName) {
+        return findForUpdate(customerId, assetName);
+    }
+
+    /**
+     * Locks and loads many balances with a few set-based queries, creating the missing ones. Used by bulk
+     * operations that would otherwise look up each (customer, asset) pair separately. Each query covers one
+     * asset name and only the customers requested for it, so no row outside the given keys is locked.
+     */
+    @Transactional
+    public Map<AssetKey, Asset> getOrCreateAssetsForUpdate(Collection<AssetKey> keys) {
+        List<AssetKey> sorted = keys.stream().distinct().sorted(AssetKey.LOCK_ORDER).toList();
+        sorted.forEach(key -> balanceLockManager.lock(key.getCustomerId(), key.getAssetName()));
+
+        Map<String, List<Long>> customerIdsByAssetName = sorted.stream().collect(Collectors.groupingBy(
+                AssetKey::getAssetName, TreeMap::new, Collectors.mapping(AssetKey::getCustomerId, Collectors.toList())));
+        Map<AssetKey, Asset> assets = new HashMap<>();
+        customerIdsByAssetName.forEach((assetName, customerIds) -> {
+            for (int from = 0; from < customerIds.size(); from += IN_CLAUSE_CHUNK) {
+                List<Long> chunk = customerIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, customerIds.size()));
+                List<Asset> found = lockMode == AssetLockMode.OPTIMISTIC
+                        ? assetRepository.findByCustomerIdsAndAssetName(chunk, assetName)
+                        : assetRepository.findByCustomerIdsAndAssetNameForUpdate(chunk, assetName);
+                found.forEach(asset -> assets.put(AssetKey.of(asset.getCustomerId(), assetName), asset));
+            }
+        });
+
+        List<Asset> created = sorted.stream()
+                .filter(key -> !assets.containsKey(key))
+                .map(key -> newAsset(key.getCustomerId(), key.getAssetName()))
+                .toList();
+        assetRepository.saveAll(created).forEach(asset ->
+                assets.put(AssetKey.of(asset.getCustomerId(), asset.getAssetSymbol().getSymbol()), asset));
+        return assets;
+    }
+
+    // In optimistic mode conflicting writers are detected by the Asset version on commit instead of a row lock
+    private Optional<Asset> findForUpdate(Long customerId, String assetName) {
+        balanceLockManager.lock(customerId, assetName);
+        if (lockMode == AssetLockMode.OPTIMISTIC) {
+            return assetRepository.findByCustomerIdAndAssetName(customerId, assetName);
+        }
+        return assetRepository.findByCustomerIdAndAssetNameForUpdate(customerId, assetName);
+    }
+
     private Asset createAsset(Long customerId, String assetName) {
+        return assetRepository.save(newAsset(customerId, assetName));
+    }
+
+    private Asset newAsset(Long customerId, String assetName) {
         Asset asset = new Asset();
         asset.setCustomerId(customerId);
         asset.setAssetSymbol(AssetSymbol.of(assetName));
         asset.setSize(Quantity.zero());
         asset.setUsableSize(UsableSize.zero());
-        return assetRepository.save(asset);
+        return asset;
     }
 }
@@ -0,0 +1,142 @@
+package com.brokage.application.service.asset;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Serializes access to a single (customer, asset) balance inside the JVM before the database is touched.
+// Every balance key gets its own fair lock, so writers of different balances never wait for each other.
+// Locks are held until the surrounding transaction completes. Contention stats are kept for a bounded
+// number of customers; the least active ones are evicted first.
+@Component
+@Slf4j
+public class BalanceLockManager {
+
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final ConcurrentMap<AssetKey, LockEntry> locks = new ConcurrentHashMap<>();
+    private final Cache<Long, BalanceLockStats> statsByCustomer;
+
+    public BalanceLockManager(@Value("${app.asset.balance-lock.enabled:true}") boolean enabled,
+                              @Value("${app.asset.balance-lock.timeout-ms:3000}") long timeoutMillis,
+                              @Value("${app.asset.balance-lock.stats-max-customers:10000}") long statsMaxCustomers) {
+        this.enabled = enabled;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        // Evicts on the locking thread, so the bound holds without a background task
+        this.statsByCustomer = Caffeine.newBuilder()
+                .maximumSize(statsMaxCustomers)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public void lock(Long customerId, String assetName) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Balance locks require an active transaction");
+        }
+
+        Map<AssetKey, HeldLock> heldLocks = heldLocks();
+        AssetKey key = AssetKey.of(customerId, assetName);
+        if (heldLocks.containsKey(key)) {
+            return;
+        }
+
+        LockEntry entry = acquireEntry(key);
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = entry.lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        long acquiredAt = System.nanoTime();
+        BalanceLockStats stats = statsByCustomer.get(customerId, BalanceLockStats::new);
+
+        if (!acquired) {
+            releaseEntry(key);
+            stats.recordTimeout(acquiredAt - waitStart);
+            throw new CannotAcquireLockException("Timed out waiting for balance lock of customer " + customerId
+                    + " and asset " + assetName);
+        }
+
+        stats.recordWait(acquiredAt - waitStart);
+        heldLocks.put(key, new HeldLock(entry, stats, acquiredAt));
+    }
+
+    public List<BalanceLockStats> getStats() {
+        return statsByCustomer.asMap().values().stream()
+                .sorted(Comparator.comparingDouble(BalanceLockStats::getMaxWaitMillis).reversed())
+                .toList();
+    }
+
+    public int getActiveLockCount() {
+        return locks.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<AssetKey, HeldLock> heldLocks() {
+        Map<AssetKey, HeldLock> heldLocks = (Map<AssetKey, HeldLock>) TransactionSynchronizationManager.getResource(this);
+        if (heldLocks == null) {
+            Map<AssetKey, HeldLock> newLocks = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, newLocks);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BalanceLockManager.this);
+                    releaseAll(newLocks.entrySet());
+                }
+            });
+            heldLocks = newLocks;
+        }
+        return heldLocks;
+    }
+
+    private void releaseAll(Collection<Map.Entry<AssetKey, HeldLock>> heldLocks) {
+        long releasedAt = System.nanoTime();
+        for (Map.Entry<AssetKey, HeldLock> held : heldLocks) {
+            HeldLock heldLock = held.getValue();
+            heldLock.stats.recordHold(releasedAt - heldLock.acquiredAt);
+            heldLock.entry.lock.unlock();
+            releaseEntry(held.getKey());
+        }
+    }
+
+    private LockEntry acquireEntry(AssetKey key) {
+        return locks.compute(key, (k, entry) -> {
+            LockEntry result = entry != null ? entry : new LockEntry();
+            result.references++;
+            return result;
+        });
+    }
+
+    // Entries are dropped once no thread holds or waits for them, so idle balances cost no memory
+    private void releaseEntry(AssetKey key) {
+        locks.computeIfPresent(key, (k, entry) -> --entry.references == 0 ? null : entry);
+    }
+
+    private record HeldLock(LockEntry entry, BalanceLockStats stats, long acquiredAt) {
+    }
+
+    private static final class LockEntry {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int references;
+    }
+}
@@ -0,0 +1,72 @@
+package com.brokage.application.service.asset;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BalanceLockStats {
+
+    @Getter
+    private final Long customerId;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder holds = new LongAdder();
+    private final LongAdder totalHoldNanos = new LongAdder();
+    private final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0);
+
+    public BalanceLockStats(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    void recordWait(long waitNanos) {
+        acquisitions.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    void recordTimeout(long waitNanos) {
+        timeouts.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    void recordHold(long holdNanos) {
+        holds.increment();
+        totalHoldNanos.add(holdNanos);
+        maxHoldNanos.accumulate(holdNanos);
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public double getAverageWaitMillis() {
+        long attempts = acquisitions.sum() + timeouts.sum();
+        return attempts == 0 ? 0 : toMillis(totalWaitNanos.sum()) / attempts;
+    }
+
+    public double getMaxWaitMillis() {
+        return toMillis(maxWaitNanos.get());
+    }
+
+    public double getAverageHoldMillis() {
+        long count = holds.sum();
+        return count == 0 ? 0 : toMillis(totalHoldNanos.sum()) / count;
+    }
+
+    public double getMaxHoldMillis() {
+        return toMillis(maxHoldNanos.get());
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -1,6 +1,9 @@
 package com.brokage.application.service.asset;
 
+import com.brokage.application.dto.response.AssetResponse;
+import com.brokage.application.mapper.AssetMapper;
 import com.brokage.domain.entity.Asset;
+import com.brokage.infrastructure.metrics.annotation.TimedService;
 import com.brokage.infrastructure.repository.AssetRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -9,13 +12,21 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
+@TimedService
 @RequiredArgsConstructor
 public class FetchAssetService {
     
     private final AssetRepository assetRepository;
+    private final AssetMapper assetMapper;
+    private final PortfolioCache portfolioCache;
     
     @Transactional(readOnly = true)
     public List<Asset> getCustomerAssets(Long customerId) {
         return assetRepository.findByCustomerId(customerId);
     }
+
+    // Not transactional: a cache hit must not open a transaction or borrow a connection
+    public List<AssetResponse> getCustomerPortfolio(Long customerId) {
+        return portfolioCache.get(customerId, id -> assetMapper.toResponseList(assetRepository.findByCustomerId(id)));
+    }
 }
@@ -0,0 +1,92 @@
+package com.brokage.application.service.asset;
+
+import com.brokage.application.dto.response.AssetResponse;
+import com.brokage.infrastructure.concurrent.CallerLoadingCache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of customer portfolios as returned by the assets endpoint. Any change to a customer's
+ * asset rows evicts the portfolio when the writing transaction completes; a load running concurrently with
+ * that eviction is discarded, so a portfolio read before the commit is never served afterwards.
+ */
+@Component
+public class PortfolioCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final AsyncCache<Long, List<AssetResponse>> cache;
+
+    public PortfolioCache(@Value("${app.asset.portfolio-cache.enabled:true}") boolean enabled,
+                          @Value("${app.asset.portfolio-cache.max-size:10000}") long maxSize,
+                          @Value("${app.asset.portfolio-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+
+    public List<AssetResponse> get(Long customerId, Function<Long, List<AssetResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(customerId);
+        }
+        return CallerLoadingCache.get(cache, customerId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    // Evicts once the surrounding transaction completes, once per customer however many rows it changed
+    public void evict(Long customerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.synchronous().invalidate(customerId);
+            return;
+        }
+        pendingEvictions().add(customerId);
+    }
+
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public PortfolioCacheStats getStats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new PortfolioCacheStats(enabled, stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), cache.synchronous().estimatedSize());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "portfolio");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingEvictions() {
+        Set<Long> customerIds = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (customerIds == null) {
+            Set<Long> newCustomerIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, newCustomerIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PortfolioCache.this);
+                    cache.synchronous().invalidateAll(newCustomerIds);
+                }
+            });
+            customerIds = newCustomerIds;
+        }
+        return customerIds;
+    }
+}
@@ -0,0 +1,14 @@
+package com.brokage.application.service.asset;
+
+import lombok.Value;
+
+@Value
+public class PortfolioCacheStats {
+
+    boolean enabled;
+    long hitCount;
+    long missCount;
+    double hitRate;
+    long evictionCount;
+    long size;
+}
@@ -0,0 +1,164 @@
+package com.brokage.application.service.journal;
+
+import com.brokage.application.service.matching.BookOrder;
+import com.brokage.application.service.matching.OrderBook;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk format of the order journal. A frame is [int payload length][int CRC32C of the payload][payload]
+ * and holds the records of one committed transaction, so replay applies a transaction entirely or not at all.
+ * A zero length marks the end of the written part of a segment. Each record starts with its type code and
+ * symbol, prices and quantities are stored as minor units:
+ * <pre>
+ * CREATE  orderId customerId side price size
+ * MARKET  orderId customerId side price size, matched like CREATE but never rested
+ * CANCEL  orderId
+ * MATCH   orderId
+ * RESET   count, then count x (orderId customerId side price remaining)
+ * </pre>
+ */
+final class JournalCodec {
+
+    static final int FRAME_HEADER_BYTES = 8;
+
+    private JournalCodec() {
+    }
+
+    static void writeCreate(DataOutput out, AssetSymbol symbol, BookOrder order) throws IOException {
+        writeHeader(out, JournalRecordType.CREATE, symbol.getSymbol());
+        writeOrder(out, order);
+    }
+
+    static void writeMarket(DataOutput out, AssetSymbol symbol, BookOrder order) throws IOException {
+        writeHeader(out, JournalRecordType.MARKET, symbol.getSymbol());
+        writeOrder(out, order);
+    }
+
+    static void writeRemove(DataOutput out, JournalRecordType type, AssetSymbol symbol, Long orderId) throws IOException {
+        if (type != JournalRecordType.CANCEL && type != JournalRecordType.MATCH) {
+            throw new IllegalArgumentException("Not a remove record: " + type);
+        }
+        writeHeader(out, type, symbol.getSymbol());
+        out.writeLong(orderId);
+    }
+
+    static void writeReset(DataOutput out, OrderBook book) throws IOException {
+        List<BookOrder> orders = book.orders();
+        writeHeader(out, JournalRecordType.RESET, book.getSymbol().getSymbol());
+        out.writeInt(orders.size());
+        for (BookOrder order : orders) {
+            writeOrder(out, order);
+        }
+    }
+
+    // Applies every record of a frame payload to the books, keyed by symbol, exactly as the matching engine did
+    static void apply(ByteBuffer payload, Map<String, OrderBook> books) {
+        while (payload.hasRemaining()) {
+            JournalRecordType type = JournalRecordType.fromCode(payload.get());
+            String symbol = readSymbol(payload);
+            switch (type) {
+                case RESET -> {
+                    OrderBook book = new OrderBook(AssetSymbol.of(symbol));
+                    int count = payload.getInt();
+                    for (int i = 0; i < count; i++) {
+                        book.add(readOrder(payload));
+                    }
+                    books.put(symbol, book);
+                }
+                case CREATE, MARKET -> {
+                    OrderBook book = books.computeIfAbsent(symbol, name -> new OrderBook(AssetSymbol.of(name)));
+                    BookOrder incoming = readOrder(payload);
+                    book.match(incoming);
+                    if (type == JournalRecordType.CREATE && !incoming.isFilled()) {
+                        book.add(incoming);
+                    }
+                }
+                case CANCEL, MATCH -> {
+                    long orderId = payload.getLong();
+                    OrderBook book = books.get(symbol);
+                    if (book != null) {
+                        book.remove(orderId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands the payload of each valid frame, starting at the buffer's position, to the consumer and returns
+     * the offset just after the last valid frame. Reading stops at a zero length, the end of the buffer, or a
+     * frame that is truncated or fails its checksum.
+     */
+    static int readFrames(ByteBuffer buffer, Consumer<ByteBuffer> consumer) {
+        int offset = buffer.position();
+        int limit = buffer.limit();
+        while (offset + FRAME_HEADER_BYTES <= limit) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length > limit - offset - FRAME_HEADER_BYTES) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(offset + FRAME_HEADER_BYTES, length);
+            if (checksum(payload) != buffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+            consumer.accept(payload);
+            offset += FRAME_HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    static ByteBuffer frame(byte[] payload) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length);
+        frame.putInt(payload.length).putInt(checksum(ByteBuffer.wrap(payload))).put(payload);
+        return frame.flip();
+    }
+
+    static int checksum(ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static void writeHeader(DataOutput out, JournalRecordType type, String symbol) throws IOException {
+        byte[] name = symbol.getBytes(StandardCharsets.US_ASCII);
+        out.writeByte(type.getCode());
+        out.writeByte(name.length);
+        out.write(name);
+    }
+
+    private static void writeOrder(DataOutput out, BookOrder order) throws IOException {
+        out.writeLong(order.getOrderId());
+        out.writeLong(order.getCustomerId());
+        out.writeByte(order.getSide().ordinal());
+        out.writeLong(order.getPrice().getMinorUnits());
+        out.writeLong(order.getRemaining().getMinorUnits());
+    }
+
+    private static String readSymbol(ByteBuffer payload) {
+        byte[] name = new byte[payload.get()];
+        payload.get(name);
+        return new String(name, StandardCharsets.US_ASCII);
+    }
+
+    private static BookOrder readOrder(ByteBuffer payload) {
+        return new BookOrder(
+                payload.getLong(),
+                payload.getLong(),
+                OrderSide.values()[payload.get()],
+                Money.ofMinorUnits(payload.getLong()),
+                Quantity.ofMinorUnits(payload.getLong())
+        );
+    }
+}
@@ -0,0 +1,346 @@
+package com.brokage.application.service.journal;
+
+import com.brokage.application.service.matching.OrderBook;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Directory of journal segments plus at most one snapshot. Positions are byte offsets in the logical journal:
+ * a segment is named after the position of its first byte and a snapshot after the position up to which it
+ * covers the journal. With group commit enabled a flusher thread forces everything appended since its last
+ * pass in one call, so concurrent appenders share a single sync. After every {@code snapshotEverySegments}
+ * rolled segments the closed segments are folded into a new snapshot on a background thread and deleted.
+ */
+@Slf4j
+final class JournalLog implements Closeable {
+
+    static final String SNAPSHOT_PREFIX = "snapshot-";
+    static final String SNAPSHOT_SUFFIX = ".snap";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean groupCommit;
+    private final int snapshotEverySegments;
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-journal-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Not a monitor: request threads wait on it for durability, which would pin a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    // Guarded by lock
+    private JournalSegment segment;
+    private final List<JournalSegment> sealed = new ArrayList<>();
+    private long durablePosition;
+    private int segmentsSinceSnapshot;
+    private RuntimeException flushFailure;
+    private boolean closed;
+    private Thread flusher;
+
+    JournalLog(Path directory, int segmentSize, boolean groupCommit, int snapshotEverySegments) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.groupCommit = groupCommit;
+        this.snapshotEverySegments = snapshotEverySegments;
+    }
+
+    /**
+     * Rebuilds the books from the latest snapshot and the segments after it, then opens the journal for
+     * appending. Replay stops at the first torn or corrupt frame; later segments cannot be applied on top of
+     * the missing frames and are deleted.
+     */
+    Map<String, OrderBook> open() throws IOException {
+        Files.createDirectories(directory);
+        Map<String, OrderBook> books = new HashMap<>();
+        Optional<Path> snapshot = latestSnapshot();
+        long position = snapshot.map(JournalLog::snapshotPosition).orElse(0L);
+        if (snapshot.isPresent()) {
+            readSnapshot(snapshot.get(), books);
+        }
+
+        TreeMap<Long, Path> segments = segments();
+        deleteCovered(segments, position);
+        JournalSegment current = null;
+        for (Map.Entry<Long, Path> entry : segments.tailMap(position).entrySet()) {
+            if (current != null) {
+                if (current.isTorn() || entry.getKey() != current.getEndPosition()) {
+                    log.warn("Order journal ends at position {}, discarding {}", current.getEndPosition(), entry.getValue());
+                    Files.delete(entry.getValue());
+                    continue;
+                }
+                current.close();
+                segmentsSinceSnapshot++;
+            } else if (entry.getKey() != position) {
+                log.warn("Order journal has no segment at position {}, discarding {}", position, entry.getValue());
+                Files.delete(entry.getValue());
+                continue;
+            }
+            current = JournalSegment.recover(entry.getValue(), payload -> JournalCodec.apply(payload, books));
+        }
+
+        lock.lock();
+        try {
+            segment = current != null ? current : JournalSegment.create(directory, position, segmentSize);
+            durablePosition = segment.getEndPosition();
+            if (groupCommit) {
+                flusher = new Thread(this::flushLoop, "order-journal-flusher");
+                flusher.setDaemon(true);
+                flusher.start();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return books;
+    }
+
+    // Appends one frame and returns the journal position after it
+    long append(byte[] payload) throws IOException {
+        if (JournalCodec.FRAME_HEADER_BYTES + payload.length > segmentSize) {
+            throw new IllegalArgumentException("Journal frame of " + payload.length + " bytes exceeds the segment size");
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Order journal is closed");
+            }
+            if (!segment.hasRoom(payload.length)) {
+                roll();
+            }
+            segment.append(payload);
+            appended.signal();
+            return segment.getEndPosition();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Waits until the flusher has forced the journal up to the given position
+    void awaitDurable(long position) throws InterruptedException {
+        lock.lock();
+        try {
+            while (durablePosition < position && flushFailure == null && !closed) {
+                flushed.await();
+            }
+            if (flushFailure != null) {
+                throw new IllegalStateException("Order journal could not be forced to disk", flushFailure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        Thread stoppingFlusher;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            stoppingFlusher = flusher;
+            appended.signalAll();
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        snapshotExecutor.shutdownNow();
+        if (stoppingFlusher != null) {
+            try {
+                stoppingFlusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            if (segment != null) {
+                segment.force(0, segment.getWriteOffset());
+                segment.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Folds the previous snapshot and every segment before the boundary into a new snapshot, one RESET record
+     * per non-empty book. The snapshot is written to a temporary file and moved into place before the covered
+     * files are deleted, so a crash at any point leaves either the old or the new snapshot usable.
+     */
+    void snapshot(long boundary) throws IOException {
+        Map<String, OrderBook> books = new HashMap<>();
+        Optional<Path> previous = latestSnapshot();
+        if (previous.isPresent()) {
+            readSnapshot(previous.get(), books);
+        }
+        long from = previous.map(JournalLog::snapshotPosition).orElse(0L);
+        TreeMap<Long, Path> segments = segments();
+        for (Path file : segments.subMap(from, boundary).values()) {
+            JournalSegment.read(file, payload -> JournalCodec.apply(payload, books));
+        }
+
+        Path target = directory.resolve(snapshotName(boundary));
+        Path temporary = directory.resolve(snapshotName(boundary) + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (OrderBook book : books.values()) {
+                if (book.size() > 0) {
+                    channel.write(JournalCodec.frame(resetPayload(book)));
+                }
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+
+        deleteCovered(segments, boundary);
+        if (previous.isPresent()) {
+            Files.delete(previous.get());
+        }
+        log.debug("Wrote order journal snapshot at position {} with {} books", boundary, books.size());
+    }
+
+    private void roll() throws IOException {
+        JournalSegment previous = segment;
+        segment = JournalSegment.create(directory, previous.getEndPosition(), segmentSize);
+        if (flusher != null) {
+            // The flusher forces and closes it, appenders may still be waiting for its frames
+            sealed.add(previous);
+        } else {
+            previous.close();
+        }
+        if (++segmentsSinceSnapshot >= snapshotEverySegments) {
+            segmentsSinceSnapshot = 0;
+            long boundary = segment.getBasePosition();
+            snapshotExecutor.execute(() -> snapshotSafely(boundary));
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            List<JournalSegment> closing;
+            JournalSegment current;
+            int fromOffset;
+            lock.lock();
+            try {
+                while (!closed && sealed.isEmpty() && segment.getEndPosition() == durablePosition) {
+                    try {
+                        appended.await();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+                if (closed && sealed.isEmpty()) {
+                    return;
+                }
+                closing = new ArrayList<>(sealed);
+                sealed.clear();
+                current = segment;
+                fromOffset = (int) Math.max(0, durablePosition - current.getBasePosition());
+            } finally {
+                lock.unlock();
+            }
+            try {
+                for (JournalSegment done : closing) {
+                    done.force(0, done.getWriteOffset());
+                    done.close();
+                }
+                long target = current.getEndPosition();
+                current.force(fromOffset, (int) (target - current.getBasePosition()));
+                lock.lock();
+                try {
+                    durablePosition = Math.max(durablePosition, target);
+                    flushed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (IOException | UncheckedIOException ex) {
+                log.error("Could not force the order journal to disk", ex);
+                lock.lock();
+                try {
+                    flushFailure = new IllegalStateException(ex);
+                    flushed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+
+    private void snapshotSafely(long boundary) {
+        try {
+            snapshot(boundary);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not write order journal snapshot at position {}", boundary, ex);
+        }
+    }
+
+    private Optional<Path> latestSnapshot() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .max(Comparator.comparingLong(JournalLog::snapshotPosition));
+        }
+    }
+
+    private TreeMap<Long, Path> segments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(JournalSegment::isSegment).forEach(file -> segments.put(JournalSegment.basePosition(file), file));
+        }
+        return segments;
+    }
+
+    private void deleteCovered(TreeMap<Long, Path> segments, long position) throws IOException {
+        for (Path file : segments.headMap(position).values()) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void readSnapshot(Path snapshot, Map<String, OrderBook> books) throws IOException {
+        JournalSegment.read(snapshot, payload -> JournalCodec.apply(payload, books));
+    }
+
+    private static byte[] resetPayload(OrderBook book) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JournalCodec.writeReset(new DataOutputStream(bytes), book);
+        return bytes.toByteArray();
+    }
+
+    private static String snapshotName(long position) {
+        return String.format("%s%020d%s", SNAPSHOT_PREFIX, position, SNAPSHOT_SUFFIX);
+    }
+
+    private static long snapshotPosition(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+}
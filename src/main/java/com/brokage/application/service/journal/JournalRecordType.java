@@ -0,0 +1,25 @@
+package com.brokage.application.service.journal;
+
+// Book commands written to the order journal; the code is the byte stored on disk and must never change
+public enum JournalRecordType {
+    RESET(1), CREATE(2), CANCEL(3), MATCH(4), MARKET(5);
+
+    private final byte code;
+
+    JournalRecordType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static JournalRecordType fromCode(byte code) {
+        for (JournalRecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown journal record type: " + code);
+    }
+}
@@ -0,0 +1,131 @@
+package com.brokage.application.service.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * A fixed-size journal file mapped into memory. Frames are copied into the mapping and reach the file through
+ * the page cache, so they survive a process crash without any system call; {@link #force} makes them survive a
+ * machine crash as well. The file is named after the journal position of its first byte. Not thread-safe
+ * except that {@link #force} may run while other frames are appended.
+ */
+final class JournalSegment implements Closeable {
+
+    static final String PREFIX = "journal-";
+    static final String SUFFIX = ".seg";
+
+    private final long basePosition;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writeOffset;
+    private boolean torn;
+
+    private JournalSegment(long basePosition, FileChannel channel, MappedByteBuffer buffer) {
+        this.basePosition = basePosition;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path directory, long basePosition, int size) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(fileName(basePosition)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(basePosition, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    /**
+     * Opens an existing segment for appending and replays its frames. Anything after the last valid frame, such
+     * as a torn frame left by a crash, is zeroed and the segment is marked torn, so that new frames are appended
+     * right after the last valid one and a later replay never runs into stale bytes.
+     */
+    static JournalSegment recover(Path file, Consumer<ByteBuffer> consumer) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        JournalSegment segment = new JournalSegment(basePosition(file), channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        segment.writeOffset = JournalCodec.readFrames(segment.buffer.duplicate(), consumer);
+        if (!segment.isZero(segment.writeOffset)) {
+            segment.buffer.put(segment.writeOffset, new byte[segment.remaining()]);
+            segment.buffer.force(segment.writeOffset, segment.remaining());
+            segment.torn = true;
+        }
+        return segment;
+    }
+
+    // Replays a segment that is no longer written to
+    static void read(Path file, Consumer<ByteBuffer> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            JournalCodec.readFrames(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), consumer);
+        }
+    }
+
+    static String fileName(long basePosition) {
+        return String.format("%s%020d%s", PREFIX, basePosition, SUFFIX);
+    }
+
+    static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    static long basePosition(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    boolean hasRoom(int payloadLength) {
+        return JournalCodec.FRAME_HEADER_BYTES + payloadLength <= remaining();
+    }
+
+    void append(byte[] payload) {
+        buffer.putInt(writeOffset + Integer.BYTES, JournalCodec.checksum(ByteBuffer.wrap(payload)));
+        buffer.put(writeOffset + JournalCodec.FRAME_HEADER_BYTES, payload);
+        // The length goes in last: a frame is only visible to replay once it is complete
+        buffer.putInt(writeOffset, payload.length);
+        writeOffset += JournalCodec.FRAME_HEADER_BYTES + payload.length;
+    }
+
+    void force(int fromOffset, int toOffset) {
+        if (toOffset > fromOffset) {
+            buffer.force(fromOffset, toOffset - fromOffset);
+        }
+    }
+
+    long getBasePosition() {
+        return basePosition;
+    }
+
+    int getWriteOffset() {
+        return writeOffset;
+    }
+
+    long getEndPosition() {
+        return basePosition + writeOffset;
+    }
+
+    boolean isTorn() {
+        return torn;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean isZero(int fromOffset) {
+        for (int offset = fromOffset; offset < buffer.capacity(); offset++) {
+            if (buffer.get(offset) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int remaining() {
+        return buffer.capacity() - writeOffset;
+    }
+}
@@ -0,0 +1,176 @@
+package com.brokage.application.service.journal;
+
+import com.brokage.application.service.matching.BookOrder;
+import com.brokage.application.service.matching.OrderBook;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only journal of the commands applied to the in-memory order books, so that the books can be
+ * rebuilt after a restart without replaying every pending order through the matching engine. It is not a
+ * write-ahead log: the database commit is what makes an order durable, and the records of a transaction are
+ * appended as one frame only once it has committed, while the matching engine still holds the symbol locks.
+ * With {@code force} the caller also waits for the frame to be forced to disk, on top of the commit. A frame
+ * that cannot be appended or forced fails the caller even though the database has committed. A recovered
+ * book is only used if it rests exactly the orders the database still has pending, otherwise the engine
+ * loads the symbol from the database as before.
+ */
+@Component
+@Slf4j
+public class OrderJournal {
+
+    private static final int MEGABYTE = 1024 * 1024;
+
+    private final boolean enabled;
+    private final boolean force;
+    private final JournalLog journalLog;
+    private final Map<String, OrderBook> recoveredBooks = new ConcurrentHashMap<>();
+
+    public OrderJournal(@Value("${app.journal.enabled:false}") boolean enabled,
+                        @Value("${app.journal.directory:order-journal}") String directory,
+                        @Value("${app.journal.segment-size-mb:64}") int segmentSizeMb,
+                        @Value("${app.journal.force:false}") boolean force,
+                        @Value("${app.journal.snapshot-every-segments:4}") int snapshotEverySegments) {
+        this.enabled = enabled;
+        this.force = force;
+        this.journalLog = new JournalLog(Path.of(directory), segmentSizeMb * MEGABYTE, force, snapshotEverySegments);
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        recoveredBooks.putAll(journalLog.open());
+        log.info("Recovered {} order books with {} resting orders from the order journal", recoveredBooks.size(),
+                recoveredBooks.values().stream().mapToInt(OrderBook::size).sum());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (enabled) {
+            journalLog.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Hands the recovered book of a symbol to the matching engine once; later loads come from the database
+    public Optional<OrderBook> takeRecoveredBook(AssetSymbol symbol) {
+        return Optional.ofNullable(recoveredBooks.remove(symbol.getSymbol()));
+    }
+
+    // Must be called before the order is matched, replay matches it again
+    public void recordCreate(AssetSymbol symbol, BookOrder order) {
+        if (enabled) {
+            write(out -> JournalCodec.writeCreate(out, symbol, order));
+        }
+    }
+
+    // A market order is matched on replay like a created one, but its remainder is not rested
+    public void recordMarket(AssetSymbol symbol, BookOrder order) {
+        if (enabled) {
+            write(out -> JournalCodec.writeMarket(out, symbol, order));
+        }
+    }
+
+    public void recordRemove(Order order) {
+        if (enabled) {
+            JournalRecordType type = order.getStatus() == OrderStatus.CANCELED
+                    ? JournalRecordType.CANCEL
+                    : JournalRecordType.MATCH;
+            write(out -> JournalCodec.writeRemove(out, type, order.getAssetSymbol(), order.getId()));
+        }
+    }
+
+    // Records the whole book, replacing whatever the journal held for its symbol
+    public void recordReset(OrderBook book) {
+        if (enabled) {
+            write(out -> JournalCodec.writeReset(out, book));
+        }
+    }
+
+    private void write(RecordWriter writer) {
+        try {
+            writer.write(transactionFrame().out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private TransactionFrame transactionFrame() {
+        TransactionFrame frame = (TransactionFrame) TransactionSynchronizationManager.getResource(this);
+        if (frame == null) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                throw new IllegalStateException("Order journal requires an active transaction");
+            }
+            frame = new TransactionFrame();
+            TransactionSynchronizationManager.bindResource(this, frame);
+            TransactionSynchronizationManager.registerSynchronization(frame);
+        }
+        return frame;
+    }
+
+    // Reported as an I/O failure rather than a rejected order, the database has already committed
+    private static UncheckedIOException failure(String message, Exception cause) {
+        return new UncheckedIOException(message, cause instanceof IOException io ? io : new IOException(cause));
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // Collects the records of one transaction; its afterCommit runs before the symbol locks are released
+    private final class TransactionFrame implements TransactionSynchronization {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        // Spring propagates an afterCommit failure to the committing caller, afterCompletion failures are only logged
+        @Override
+        public void afterCommit() {
+            long position;
+            try {
+                position = journalLog.append(bytes.toByteArray());
+            } catch (IOException | RuntimeException ex) {
+                throw failure("Could not append " + bytes.size() + " bytes to the order journal", ex);
+            }
+            if (!force) {
+                return;
+            }
+            try {
+                journalLog.awaitDurable(position);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw failure("Interrupted while forcing the order journal to disk", ex);
+            } catch (RuntimeException ex) {
+                throw failure("Order journal frame at position " + position + " is not durable", ex);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderJournal.this);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.brokage.application.service.marketdata;
+
+import com.brokage.application.dto.response.MarketDataMessage;
+import com.brokage.application.mapper.MarketDataMapper;
+import com.brokage.application.service.matching.BookDepth;
+import com.brokage.application.service.matching.BookLevel;
+import com.brokage.application.service.matching.Fill;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-symbol market data for WebSocket subscribers. The matching engine hands over the committed book depth
+ * and trades of watched symbols; once per flush interval every changed symbol is diffed against what its
+ * subscribers last saw, serialized once and the same message is sent to each of them. Subscribing, sending
+ * and unsubscribing all run on the single feed thread, so a subscriber's snapshot and updates are never
+ * interleaved.
+ */
+@Service
+@Slf4j
+public class MarketDataFeed {
+
+    private final MarketDataMapper marketDataMapper;
+    private final ObjectMapper objectMapper;
+    private final int depth;
+    private final int maxSymbolsPerSession;
+    private final ConcurrentMap<String, SymbolFeed> feeds = new ConcurrentHashMap<>();
+    // Feed thread only
+    private final Map<WebSocketSession, Set<String>> subscriptions = new HashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "market-data-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MarketDataFeed(MarketDataMapper marketDataMapper,
+                          ObjectMapper objectMapper,
+                          @Value("${app.market-data.depth:10}") int depth,
+                          @Value("${app.market-data.max-symbols-per-session:50}") int maxSymbolsPerSession,
+                          @Value("${app.market-data.flush-interval-ms:100}") long flushIntervalMillis) {
+        this.marketDataMapper = marketDataMapper;
+        this.objectMapper = objectMapper;
+        this.depth = depth;
+        this.maxSymbolsPerSession = maxSymbolsPerSession;
+        executor.scheduleAtFixedRate(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public boolean isWatched(AssetSymbol symbol) {
+        SymbolFeed feed = feeds.get(symbol.getSymbol());
+        return feed != null && feed.watchers.get() > 0;
+    }
+
+    /**
+     * Registers interest in a symbol before the subscription itself is processed, so that commits from now
+     * on are handed over. Returns true for the first watcher, whose caller must have the engine publish the
+     * current book because nothing was tracked before.
+     */
+    public boolean watch(AssetSymbol symbol) {
+        SymbolFeed created = new SymbolFeed(symbol.getSymbol());
+        SymbolFeed feed = feeds.compute(symbol.getSymbol(), (key, existing) -> {
+            SymbolFeed watched = existing != null ? existing : created;
+            watched.watchers.incrementAndGet();
+            return watched;
+        });
+        return feed == created;
+    }
+
+    // Called by the matching engine under the symbol lock once a transaction that held it has committed
+    public void onCommit(AssetSymbol symbol, BookDepth bookDepth, List<Fill> trades) {
+        SymbolFeed feed = feeds.get(symbol.getSymbol());
+        if (feed != null && feed.watchers.get() > 0) {
+            feed.offer(bookDepth, trades);
+        }
+    }
+
+    public void subscribe(WebSocketSession session, AssetSymbol symbol) {
+        executor.execute(() -> {
+            Set<String> symbols = subscriptions.computeIfAbsent(session, s -> new HashSet<>());
+            SymbolFeed feed = feeds.get(symbol.getSymbol());
+            if (!symbols.add(symbol.getSymbol())) {
+                unwatch(feed);
+                send(session, error("Already subscribed to " + symbol.getSymbol()));
+                return;
+            }
+            if (symbols.size() > maxSymbolsPerSession) {
+                symbols.remove(symbol.getSymbol());
+                unwatch(feed);
+                send(session, error("Cannot subscribe to more than " + maxSymbolsPerSession + " symbols"));
+                return;
+            }
+            // Bring existing subscribers up to date so the snapshot reflects everything committed so far
+            flush(feed);
+            feed.subscribers.add(session);
+            send(session, snapshot(feed));
+        });
+    }
+
+    public void unsubscribe(WebSocketSession session, AssetSymbol symbol) {
+        executor.execute(() -> {
+            Set<String> symbols = subscriptions.get(session);
+            if (symbols != null && symbols.remove(symbol.getSymbol())) {
+                removeSubscriber(session, symbol.getSymbol());
+            }
+        });
+    }
+
+    public void unsubscribeAll(WebSocketSession session) {
+        executor.execute(() -> {
+            Set<String> symbols = subscriptions.remove(session);
+            if (symbols != null) {
+                symbols.forEach(symbol -> removeSubscriber(session, symbol));
+            }
+        });
+    }
+
+    public void sendError(WebSocketSession session, String message) {
+        executor.execute(() -> send(session, error(message)));
+    }
+
+    private void flush() {
+        feeds.values().forEach(this::flush);
+    }
+
+    private void flush(SymbolFeed feed) {
+        Update update = feed.take();
+        if (update == null) {
+            return;
+        }
+        MarketDataMessage message = diff(feed, update);
+        feed.published = update.depth;
+        if (message == null || feed.subscribers.isEmpty()) {
+            return;
+        }
+        feed.sequence++;
+        message.setSequence(feed.sequence);
+        TextMessage text = serialize(message);
+        for (WebSocketSession session : feed.subscribers) {
+            send(session, text);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Market data flush failed", ex);
+        }
+    }
+
+    private MarketDataMessage snapshot(SymbolFeed feed) {
+        MarketDataMessage message = message(MarketDataMessage.SNAPSHOT, feed.symbol, feed.published);
+        message.setSequence(feed.sequence);
+        message.setBids(marketDataMapper.toLevelResponseList(feed.published.getBids()));
+        message.setAsks(marketDataMapper.toLevelResponseList(feed.published.getAsks()));
+        return message;
+    }
+
+    // Only levels whose quantity changed are sent; a removed level is sent with quantity 0
+    private MarketDataMessage diff(SymbolFeed feed, Update update) {
+        List<BookLevel> bids = changedLevels(feed.published.getBids(), update.depth.getBids());
+        List<BookLevel> asks = changedLevels(feed.published.getAsks(), update.depth.getAsks());
+        if (bids.isEmpty() && asks.isEmpty() && update.trades.isEmpty()) {
+            return null;
+        }
+        MarketDataMessage message = message(MarketDataMessage.UPDATE, feed.symbol, update.depth);
+        message.setBids(marketDataMapper.toLevelResponseList(bids));
+        message.setAsks(marketDataMapper.toLevelResponseList(asks));
+        message.setTrades(marketDataMapper.toTradeResponseList(update.trades));
+        return message;
+    }
+
+    private static List<BookLevel> changedLevels(List<BookLevel> before, List<BookLevel> after) {
+        Map<Money, Quantity> previous = new HashMap<>();
+        before.forEach(level -> previous.put(level.getPrice(), level.getQuantity()));
+        List<BookLevel> changed = new ArrayList<>();
+        for (BookLevel level : after) {
+            if (!level.getQuantity().equals(previous.remove(level.getPrice()))) {
+                changed.add(level);
+            }
+        }
+        previous.keySet().forEach(price -> changed.add(new BookLevel(price, Quantity.zero())));
+        return changed;
+    }
+
+    private MarketDataMessage message(String type, String symbol, BookDepth bookDepth) {
+        MarketDataMessage message = new MarketDataMessage();
+        message.setType(type);
+        message.setSymbol(symbol);
+        if (!bookDepth.getBids().isEmpty()) {
+            message.setBestBid(bookDepth.getBids().get(0).getPrice().getAmount());
+        }
+        if (!bookDepth.getAsks().isEmpty()) {
+            message.setBestAsk(bookDepth.getAsks().get(0).getPrice().getAmount());
+        }
+        return message;
+    }
+
+    private MarketDataMessage error(String text) {
+        MarketDataMessage message = new MarketDataMessage();
+        message.setType(MarketDataMessage.ERROR);
+        message.setMessage(text);
+        return message;
+    }
+
+    private void send(WebSocketSession session, MarketDataMessage message) {
+        send(session, serialize(message));
+    }
+
+    private void send(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(message);
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Closing market data session {}: {}", session.getId(), ex.getMessage());
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ignored) {
+                // Already broken, the close callback unsubscribes it
+            }
+        }
+    }
+
+    private TextMessage serialize(MarketDataMessage message) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize market data message", ex);
+        }
+    }
+
+    private void removeSubscriber(WebSocketSession session, String symbol) {
+        SymbolFeed feed = feeds.get(symbol);
+        if (feed != null) {
+            feed.subscribers.remove(session);
+            unwatch(feed);
+        }
+    }
+
+    // The last watcher removes the feed; the next first watcher starts again from a freshly published book
+    private void unwatch(SymbolFeed feed) {
+        feeds.computeIfPresent(feed.symbol, (key, existing) ->
+                existing.watchers.decrementAndGet() == 0 ? null : existing);
+    }
+
+    private record Update(BookDepth depth, List<Fill> trades) {
+    }
+
+    private static final class SymbolFeed {
+
+        private final String symbol;
+        private final AtomicInteger watchers = new AtomicInteger();
+        // Feed thread only
+        private final Set<WebSocketSession> subscribers = new LinkedHashSet<>();
+        private BookDepth published = BookDepth.EMPTY;
+        private long sequence;
+        // Handed over by committing threads, guarded by this
+        private BookDepth latest;
+        private List<Fill> pendingTrades = new ArrayList<>();
+
+        private SymbolFeed(String symbol) {
+            this.symbol = symbol;
+        }
+
+        private synchronized void offer(BookDepth bookDepth, List<Fill> trades) {
+            latest = bookDepth;
+            pendingTrades.addAll(trades);
+        }
+
+        private synchronized Update take() {
+            if (latest == null) {
+                return null;
+            }
+            Update update = new Update(latest, pendingTrades);
+            latest = null;
+            pendingTrades = new ArrayList<>();
+            return update;
+        }
+    }
+}
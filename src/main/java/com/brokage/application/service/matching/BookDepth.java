@@ -0,0 +1,15 @@
+package com.brokage.application.service.matching;
+
+import lombok.Value;
+
+import java.util.List;
+
+// Best price levels of a book, bids highest first and asks lowest first
+@Value
+public class BookDepth {
+
+    public static final BookDepth EMPTY = new BookDepth(List.of(), List.of());
+
+    List<BookLevel> bids;
+    List<BookLevel> asks;
+}
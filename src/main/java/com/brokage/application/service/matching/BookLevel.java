@@ -0,0 +1,12 @@
+package com.brokage.application.service.matching;
+
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import lombok.Value;
+
+// Aggregated resting quantity at one price
+@Value
+public class BookLevel {
+    Money price;
+    Quantity quantity;
+}
@@ -0,0 +1,39 @@
+package com.brokage.application.service.matching;
+
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class BookOrder {
+
+    private final Long orderId;
+    private final Long customerId;
+    private final OrderSide side;
+    private final Money price;
+    private Quantity remaining;
+
+    public static BookOrder from(Order order) {
+        return new BookOrder(
+                order.getId(),
+                order.getCustomerId(),
+                order.getOrderSide(),
+                order.getPrice(),
+                order.getRemainingSize()
+        );
+    }
+
+    public boolean isFilled() {
+        return remaining.isZero();
+    }
+
+    void fill(Quantity quantity) {
+        remaining = remaining.subtract(quantity);
+    }
+}
@@ -0,0 +1,13 @@
+package com.brokage.application.service.matching;
+
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import lombok.Value;
+
+@Value
+public class Fill {
+    Long buyOrderId;
+    Long sellOrderId;
+    Money price;
+    Quantity quantity;
+}
@@ -0,0 +1,265 @@
+package com.brokage.application.service.matching;
+
+import com.brokage.application.service.asset.AssetKey;
+import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.journal.OrderJournal;
+import com.brokage.application.service.marketdata.MarketDataFeed;
+import com.brokage.application.service.order.OrderStatusStreamService;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.enums.OrderType;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.AssetSymbolRegistry;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchingEngine {
+
+    private static final String TRY = "TRY";
+
+    private final OrderRepository orderRepository;
+    private final AssetManagementService assetManagementService;
+    private final OrderStatusStreamService orderStatusStreamService;
+    private final MarketDataFeed marketDataFeed;
+    private final OrderOutbox orderOutbox;
+    private final OrderJournal orderJournal;
+
+    // Indexed by AssetSymbol id
+    private final AtomicReferenceArray<ReentrantLock> locks = new AtomicReferenceArray<>(AssetSymbolRegistry.MAX_SYMBOLS);
+    private final AtomicReferenceArray<OrderBook> books = new AtomicReferenceArray<>(AssetSymbolRegistry.MAX_SYMBOLS);
+    // Fills of the transaction currently holding the symbol lock
+    private final AtomicReferenceArray<List<Fill>> trades = new AtomicReferenceArray<>(AssetSymbolRegistry.MAX_SYMBOLS);
+
+    /**
+     * Locks the book of the given symbol until the surrounding transaction completes. A rolled back
+     * transaction discards the in-memory book so that it is rebuilt from the committed orders, a committed
+     * one hands the book depth and its fills to the market data feed while the lock is still held.
+     */
+    public void lockSymbol(AssetSymbol symbol) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Matching engine requires an active transaction");
+        }
+
+        int symbolId = symbol.getId();
+        ReentrantLock lock = lockFor(symbolId);
+        lock.lock();
+        boolean outermost = lock.getHoldCount() == 1;
+        if (outermost) {
+            trades.set(symbolId, new ArrayList<>());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    books.set(symbolId, null);
+                } else if (outermost) {
+                    publishMarketData(symbol);
+                }
+                if (outermost) {
+                    trades.set(symbolId, null);
+                }
+                lock.unlock();
+            }
+        });
+
+        if (books.get(symbolId) == null) {
+            loadBook(symbol);
+        }
+    }
+
+    public void lockSymbolForOrder(Long orderId) {
+        String assetName = orderRepository.findAssetNameById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found"));
+        lockSymbol(AssetSymbol.of(assetName));
+    }
+
+    // Makes the current book of a symbol available to the market data feed once nothing was tracked for it
+    @Transactional
+    public void publishBook(AssetSymbol symbol) {
+        lockSymbol(symbol);
+    }
+
+    // A market order only takes liquidity; the caller cancels whatever it leaves unfilled
+    public List<Fill> submit(Order order) {
+        OrderBook book = lockedBook(order.getAssetSymbol());
+        BookOrder incoming = BookOrder.from(order);
+        boolean rests = order.getOrderType() != OrderType.MARKET;
+        if (rests) {
+            orderJournal.recordCreate(order.getAssetSymbol(), incoming);
+        } else {
+            orderJournal.recordMarket(order.getAssetSymbol(), incoming);
+        }
+        return execute(book, order, incoming, rests);
+    }
+
+    public Optional<Money> bestPrice(AssetSymbol symbol, OrderSide side) {
+        OrderBook book = lockedBook(symbol);
+        return side == OrderSide.BUY ? book.bestBid() : book.bestAsk();
+    }
+
+    public void remove(Order order) {
+        if (lockedBook(order.getAssetSymbol()).remove(order.getId())) {
+            orderJournal.recordRemove(order);
+        }
+    }
+
+    private List<Fill> execute(OrderBook book, Order order, BookOrder incoming, boolean rests) {
+        List<Fill> fills = book.match(incoming);
+        fills.forEach(fill -> settle(order, fill));
+
+        if (rests && !incoming.isFilled()) {
+            book.add(incoming);
+        }
+        return fills;
+    }
+
+    private OrderBook lockedBook(AssetSymbol symbol) {
+        ReentrantLock lock = locks.get(symbol.getId());
+        if (lock == null || !lock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("Order book is not locked: " + symbol.getSymbol());
+        }
+        return books.get(symbol.getId());
+    }
+
+    private ReentrantLock lockFor(int symbolId) {
+        ReentrantLock lock = locks.get(symbolId);
+        if (lock == null) {
+            locks.compareAndSet(symbolId, null, new ReentrantLock());
+            lock = locks.get(symbolId);
+        }
+        return lock;
+    }
+
+    private void loadBook(AssetSymbol symbol) {
+        List<Order> pendingOrders = orderRepository.findByAssetNameAndStatus(symbol.getSymbol(), OrderStatus.PENDING);
+        Optional<OrderBook> recovered = orderJournal.takeRecoveredBook(symbol);
+        if (recovered.isPresent() && restsPendingOrders(recovered.get(), pendingOrders)) {
+            books.set(symbol.getId(), recovered.get());
+            log.debug("Recovered order book for {} with {} orders from the journal", symbol.getSymbol(), recovered.get().size());
+            return;
+        }
+
+        OrderBook book = new OrderBook(symbol);
+        books.set(symbol.getId(), book);
+
+        // Orders placed before continuous matching may already cross, so they are replayed in time order
+        pendingOrders.forEach(order -> execute(book, order, BookOrder.from(order), true));
+        orderJournal.recordReset(book);
+        log.debug("Loaded order book for {} from {} pending orders", symbol.getSymbol(), pendingOrders.size());
+    }
+
+    /**
+     * A journal that missed a committed change, or outlived its database, no longer describes the pending orders.
+     * Frames are appended after commit, so a crash or failed append can leave a partial fill out of the journal
+     * while the order stays pending; remaining sizes are compared as well as ids.
+     */
+    private boolean restsPendingOrders(OrderBook book, List<Order> pendingOrders) {
+        Map<Long, Order> pendingById = new HashMap<>();
+        pendingOrders.forEach(order -> pendingById.put(order.getId(), order));
+        if (pendingById.size() == book.size() && book.orders().stream().allMatch(resting -> {
+            Order pending = pendingById.get(resting.getOrderId());
+            return pending != null
+                    && resting.getSide() == pending.getOrderSide()
+                    && resting.getPrice().equals(pending.getPrice())
+                    && resting.getRemaining().equals(pending.getRemainingSize());
+        })) {
+            return true;
+        }
+        log.warn("Order journal for {} does not match the pending orders, loading it from the database", book.getSymbol().getSymbol());
+        return false;
+    }
+
+    private void settle(Order incoming, Fill fill) {
+        trades.get(incoming.getAssetSymbol().getId()).add(fill);
+        Order buyOrder = resolve(incoming, fill.getBuyOrderId());
+        Order sellOrder = resolve(incoming, fill.getSellOrderId());
+        Quantity quantity = fill.getQuantity();
+        String assetName = buyOrder.getAssetSymbol().getSymbol();
+
+        Money reservedBefore = buyOrder.getRemainingAmount();
+        buyOrder.fill(quantity);
+        sellOrder.fill(quantity);
+        Money released = reservedBefore.subtract(buyOrder.getRemainingAmount());
+
+        // Per-fill rounding must never charge the buyer more than the reservation being released
+        Money tradeAmount = fill.getPrice().multiply(quantity);
+        if (tradeAmount.isGreaterThan(released)) {
+            tradeAmount = released;
+        }
+
+        // The four balances are locked in one sorted pass; the incoming order's own balance is already held
+        // and is kept by the lock manager, so two fills between the same customers take the rest in one order
+        AssetKey buyerCashKey = AssetKey.of(buyOrder.getCustomerId(), TRY);
+        AssetKey buyerStockKey = AssetKey.of(buyOrder.getCustomerId(), assetName);
+        AssetKey sellerStockKey = AssetKey.of(sellOrder.getCustomerId(), assetName);
+        AssetKey sellerCashKey = AssetKey.of(sellOrder.getCustomerId(), TRY);
+        Map<AssetKey, Asset> balances = assetManagementService.getOrCreateAssetsForUpdate(
+                List.of(buyerCashKey, buyerStockKey, sellerStockKey, sellerCashKey));
+
+        Asset buyerCash = balances.get(buyerCashKey);
+        buyerCash.releaseAmount(released.subtract(tradeAmount).getAmount());
+        buyerCash.subtractSize(Quantity.ofMinorUnits(tradeAmount.getMinorUnits()));
+        Asset buyerStock = balances.get(buyerStockKey);
+        buyerStock.addSize(quantity);
+
+        Asset sellerStock = balances.get(sellerStockKey);
+        sellerStock.subtractSize(quantity);
+        Asset sellerCash = balances.get(sellerCashKey);
+        sellerCash.addSize(Quantity.ofMinorUnits(tradeAmount.getMinorUnits()));
+
+        orderRepository.save(buyOrder);
+        orderRepository.save(sellOrder);
+        // Every fill moves both customers' balances, so each side gets an event even when its order stays pending
+        orderOutbox.appendFill(buyOrder, fill.getPrice(), quantity, buyerCash, buyerStock);
+        orderOutbox.appendFill(sellOrder, fill.getPrice(), quantity, sellerStock, sellerCash);
+        publishIfMatched(buyOrder);
+        publishIfMatched(sellOrder);
+    }
+
+    private void publishMarketData(AssetSymbol symbol) {
+        OrderBook book = books.get(symbol.getId());
+        if (book == null || !marketDataFeed.isWatched(symbol)) {
+            return;
+        }
+        try {
+            marketDataFeed.onCommit(symbol, book.depth(marketDataFeed.getDepth()), trades.get(symbol.getId()));
+        } catch (RuntimeException ex) {
+            log.warn("Could not publish market data for {}", symbol.getSymbol(), ex);
+        }
+    }
+
+    private void publishIfMatched(Order order) {
+        if (order.getStatus() == OrderStatus.MATCHED) {
+            orderStatusStreamService.publish(order);
+        }
+    }
+
+    private Order resolve(Order incoming, Long orderId) {
+        if (orderId.equals(incoming.getId())) {
+            return incoming;
+        }
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalStateException("Resting order not found: " + orderId));
+    }
+}
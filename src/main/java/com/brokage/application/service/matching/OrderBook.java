@@ -0,0 +1,146 @@
+package com.brokage.application.service.matching;
+
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// Price-time priority book for a single symbol. Not thread-safe: callers must hold the symbol lock.
+public class OrderBook {
+
+    @Getter
+    private final AssetSymbol symbol;
+    private final TreeMap<Money, LinkedHashMap<Long, BookOrder>> bids = new TreeMap<>(Comparator.<Money>naturalOrder().reversed());
+    private final TreeMap<Money, LinkedHashMap<Long, BookOrder>> asks = new TreeMap<>();
+    private final Map<Long, BookOrder> ordersById = new HashMap<>();
+
+    public OrderBook(AssetSymbol symbol) {
+        this.symbol = symbol;
+    }
+
+    public List<Fill> match(BookOrder incoming) {
+        List<Fill> fills = new ArrayList<>();
+        TreeMap<Money, LinkedHashMap<Long, BookOrder>> opposite = incoming.getSide() == OrderSide.BUY ? asks : bids;
+
+        while (!incoming.isFilled() && !opposite.isEmpty()) {
+            Map.Entry<Money, LinkedHashMap<Long, BookOrder>> bestLevel = opposite.firstEntry();
+            if (!crosses(incoming, bestLevel.getKey())) {
+                break;
+            }
+
+            Iterator<BookOrder> restingOrders = bestLevel.getValue().values().iterator();
+            while (!incoming.isFilled() && restingOrders.hasNext()) {
+                BookOrder resting = restingOrders.next();
+                Quantity quantity = incoming.getRemaining().isLessThan(resting.getRemaining())
+                        ? incoming.getRemaining()
+                        : resting.getRemaining();
+
+                incoming.fill(quantity);
+                resting.fill(quantity);
+                fills.add(incoming.getSide() == OrderSide.BUY
+                        ? new Fill(incoming.getOrderId(), resting.getOrderId(), resting.getPrice(), quantity)
+                        : new Fill(resting.getOrderId(), incoming.getOrderId(), resting.getPrice(), quantity));
+
+                if (resting.isFilled()) {
+                    restingOrders.remove();
+                    ordersById.remove(resting.getOrderId());
+                }
+            }
+
+            if (bestLevel.getValue().isEmpty()) {
+                opposite.remove(bestLevel.getKey());
+            }
+        }
+        return fills;
+    }
+
+    public void add(BookOrder order) {
+        if (order.isFilled()) {
+            throw new IllegalArgumentException("Cannot rest a filled order");
+        }
+        if (ordersById.putIfAbsent(order.getOrderId(), order) != null) {
+            throw new IllegalStateException("Order already in book: " + order.getOrderId());
+        }
+        sideOf(order.getSide())
+                .computeIfAbsent(order.getPrice(), price -> new LinkedHashMap<>())
+                .put(order.getOrderId(), order);
+    }
+
+    public boolean remove(Long orderId) {
+        BookOrder order = ordersById.remove(orderId);
+        if (order == null) {
+            return false;
+        }
+        TreeMap<Money, LinkedHashMap<Long, BookOrder>> side = sideOf(order.getSide());
+        LinkedHashMap<Long, BookOrder> level = side.get(order.getPrice());
+        level.remove(orderId);
+        if (level.isEmpty()) {
+            side.remove(order.getPrice());
+        }
+        return true;
+    }
+
+    public boolean contains(Long orderId) {
+        return ordersById.containsKey(orderId);
+    }
+
+    public Optional<Money> bestBid() {
+        return bids.isEmpty() ? Optional.empty() : Optional.of(bids.firstKey());
+    }
+
+    public Optional<Money> bestAsk() {
+        return asks.isEmpty() ? Optional.empty() : Optional.of(asks.firstKey());
+    }
+
+    public BookDepth depth(int maxLevels) {
+        return new BookDepth(levels(bids, maxLevels), levels(asks, maxLevels));
+    }
+
+    public int size() {
+        return ordersById.size();
+    }
+
+    // Resting orders bids first, each side in priority order; adding them in this order rebuilds the same book
+    public List<BookOrder> orders() {
+        List<BookOrder> orders = new ArrayList<>(ordersById.size());
+        bids.values().forEach(level -> orders.addAll(level.values()));
+        asks.values().forEach(level -> orders.addAll(level.values()));
+        return orders;
+    }
+
+    private boolean crosses(BookOrder incoming, Money restingPrice) {
+        return incoming.getSide() == OrderSide.BUY
+                ? incoming.getPrice().isGreaterThanOrEqual(restingPrice)
+                : incoming.getPrice().isLessThanOrEqual(restingPrice);
+    }
+
+    private static List<BookLevel> levels(TreeMap<Money, LinkedHashMap<Long, BookOrder>> side, int maxLevels) {
+        List<BookLevel> levels = new ArrayList<>(Math.min(maxLevels, side.size()));
+        for (Map.Entry<Money, LinkedHashMap<Long, BookOrder>> level : side.entrySet()) {
+            if (levels.size() == maxLevels) {
+                break;
+            }
+            Quantity quantity = Quantity.zero();
+            for (BookOrder order : level.getValue().values()) {
+                quantity = quantity.add(order.getRemaining());
+            }
+            levels.add(new BookLevel(level.getKey(), quantity));
+        }
+        return levels;
+    }
+
+    private TreeMap<Money, LinkedHashMap<Long, BookOrder>> sideOf(OrderSide side) {
+        return side == OrderSide.BUY ? bids : asks;
+    }
+}
@@ -0,0 +1,207 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.dto.request.CreateOrderRequest;
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.application.service.asset.AssetKey;
+import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderEventType;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderType;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.repository.OrderRepository;
+import com.brokage.infrastructure.retry.annotation.RetryOnOptimisticLock;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Places many orders in one transaction. Orders are grouped by the balance they reserve from, so each
+ * (customer, asset) balance is locked, checked and reserved once per batch. An order that fails
+ * validation or does not fit the remaining balance is rejected on its own; the rest are still placed.
+ */
+@Service
+@Slf4j
+public class BatchCreateOrderService {
+
+    private static final String TRY = "TRY";
+
+    private final OrderRepository orderRepository;
+    private final AssetManagementService assetManagementService;
+    private final OrderMapper orderMapper;
+    private final MatchingEngine matchingEngine;
+    private final OrderOutbox orderOutbox;
+    private final Validator validator;
+    private final int maxBatchSize;
+
+    public BatchCreateOrderService(OrderRepository orderRepository,
+                                   AssetManagementService assetManagementService,
+                                   OrderMapper orderMapper,
+                                   MatchingEngine matchingEngine,
+                                   OrderOutbox orderOutbox,
+                                   Validator validator,
+                                   @Value("${app.orders.batch.max-size:500}") int maxBatchSize) {
+        this.orderRepository = orderRepository;
+        this.assetManagementService = assetManagementService;
+        this.orderMapper = orderMapper;
+        this.matchingEngine = matchingEngine;
+        this.orderOutbox = orderOutbox;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Transactional
+    @RetryOnOptimisticLock
+    public List<BatchOrderResult> createOrders(List<CreateOrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one order");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + maxBatchSize + " orders");
+        }
+
+        BatchOrderResult[] results = new BatchOrderResult[requests.size()];
+        List<PendingOrder> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = BatchOrderResult.rejected(i, error);
+            } else {
+                valid.add(new PendingOrder(i, requests.get(i)));
+            }
+        }
+
+        // Symbols first, then the batch's own balances, each in a fixed order; fills lock counterparty balances later
+        valid.stream()
+                .map(pending -> AssetSymbol.of(pending.request().getAssetName()).getSymbol())
+                .collect(Collectors.toCollection(TreeSet::new))
+                .forEach(symbol -> matchingEngine.lockSymbol(AssetSymbol.of(symbol)));
+
+        List<PendingOrder> reserved = new ArrayList<>();
+        Map<AssetKey, Asset> balances = new HashMap<>();
+        groupByBalance(valid).forEach((balance, orders) -> reserve(balance, orders, results, reserved, balances));
+        reserved.sort(Comparator.comparingInt(PendingOrder::index));
+
+        List<Order> orders = orderRepository.saveAll(reserved.stream()
+                .map(pending -> orderMapper.toEntity(pending.request()))
+                .toList());
+        // All CREATED events go first, so no MATCHED event of a fill within the batch can precede them
+        for (int i = 0; i < orders.size(); i++) {
+            orderOutbox.append(OrderEventType.CREATED, orders.get(i), balances.get(balanceKey(reserved.get(i).request())));
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            matchingEngine.submit(orders.get(i));
+            results[reserved.get(i).index()] = BatchOrderResult.accepted(reserved.get(i).index(), orders.get(i));
+        }
+
+        log.debug("Batch of {} orders: {} accepted", requests.size(), orders.size());
+        return List.of(results);
+    }
+
+    private String validate(CreateOrderRequest request) {
+        if (request == null) {
+            return "Order cannot be null";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getSize().compareTo(BigDecimal.ZERO) <= 0) {
+            return "Order size must be positive";
+        }
+        // Each order of a batch reserves at its own price before any of them is matched
+        if (request.getOrderType() == OrderType.MARKET) {
+            return "Market orders cannot be batched";
+        }
+        if (request.getPrice() == null) {
+            return "Limit orders require a price";
+        }
+        if (request.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            return "Order price must be positive";
+        }
+        try {
+            AssetSymbol.traded(request.getAssetName());
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+        return null;
+    }
+
+    private Map<AssetKey, List<PendingOrder>> groupByBalance(List<PendingOrder> orders) {
+        Map<AssetKey, List<PendingOrder>> groups = new TreeMap<>(AssetKey.LOCK_ORDER);
+        for (PendingOrder pending : orders) {
+            groups.computeIfAbsent(balanceKey(pending.request()), key -> new ArrayList<>()).add(pending);
+        }
+        return groups;
+    }
+
+    private static AssetKey balanceKey(CreateOrderRequest request) {
+        String assetName = request.getOrderSide() == OrderSide.BUY
+                ? TRY
+                : AssetSymbol.of(request.getAssetName()).getSymbol();
+        return AssetKey.of(request.getCustomerId(), assetName);
+    }
+
+    private void reserve(AssetKey balance, List<PendingOrder> orders, BatchOrderResult[] results,
+                         List<PendingOrder> reserved, Map<AssetKey, Asset> balances) {
+        Optional<Asset> found = assetManagementService.findAssetForUpdate(balance.getCustomerId(), balance.getAssetName());
+        if (found.isEmpty()) {
+            orders.forEach(pending -> results[pending.index()] = BatchOrderResult.rejected(pending.index(), "Asset not found"));
+            return;
+        }
+
+        Asset asset = found.get();
+        balances.put(balance, asset);
+
+        boolean buy = TRY.equals(balance.getAssetName());
+        BigDecimal available = asset.getUsableSize().getValue();
+        BigDecimal total = BigDecimal.ZERO;
+        for (PendingOrder pending : orders) {
+            BigDecimal required = required(pending.request());
+            if (total.add(required).compareTo(available) > 0) {
+                results[pending.index()] = BatchOrderResult.rejected(pending.index(),
+                        buy ? "Insufficient TRY balance" : "Insufficient asset balance");
+                continue;
+            }
+            total = total.add(required);
+            reserved.add(pending);
+        }
+
+        if (total.signum() > 0) {
+            asset.reserveAmount(total);
+        }
+    }
+
+    private BigDecimal required(CreateOrderRequest request) {
+        if (request.getOrderSide() == OrderSide.BUY) {
+            return Money.of(request.getPrice()).multiply(Quantity.of(request.getSize())).getAmount();
+        }
+        return request.getSize();
+    }
+
+    private record PendingOrder(int index, CreateOrderRequest request) {
+    }
+}
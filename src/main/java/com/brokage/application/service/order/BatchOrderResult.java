@@ -0,0 +1,24 @@
+package com.brokage.application.service.order;
+
+import com.brokage.domain.entity.Order;
+import lombok.Value;
+
+@Value
+public class BatchOrderResult {
+
+    int index;
+    Order order;
+    String error;
+
+    public static BatchOrderResult accepted(int index, Order order) {
+        return new BatchOrderResult(index, order, null);
+    }
+
+    public static BatchOrderResult rejected(int index, String error) {
+        return new BatchOrderResult(index, null, error);
+    }
+
+    public boolean isAccepted() {
+        return order != null;
+    }
+}
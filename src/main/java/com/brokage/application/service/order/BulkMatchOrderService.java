@@ -0,0 +1,148 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.service.asset.AssetKey;
+import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderEventType;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.repository.OrderRepository;
+import com.brokage.infrastructure.retry.annotation.RetryOnOptimisticLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Matches many pending orders in one transaction. The orders and every balance they touch are loaded with
+ * set-based queries, the matches are applied in memory and the changes are flushed once on commit.
+ */
+@Service
+@Slf4j
+public class BulkMatchOrderService {
+
+    private static final String TRY = "TRY";
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final OrderRepository orderRepository;
+    private final AssetManagementService assetManagementService;
+    private final MatchingEngine matchingEngine;
+    private final OrderStatusStreamService orderStatusStreamService;
+    private final OrderOutbox orderOutbox;
+    private final int maxOrders;
+
+    public BulkMatchOrderService(OrderRepository orderRepository,
+                                 AssetManagementService assetManagementService,
+                                 MatchingEngine matchingEngine,
+                                 OrderStatusStreamService orderStatusStreamService,
+                                 OrderOutbox orderOutbox,
+                                 @Value("${app.orders.bulk-match.max-orders:50000}") int maxOrders) {
+        this.orderRepository = orderRepository;
+        this.assetManagementService = assetManagementService;
+        this.matchingEngine = matchingEngine;
+        this.orderStatusStreamService = orderStatusStreamService;
+        this.orderOutbox = orderOutbox;
+        this.maxOrders = maxOrders;
+    }
+
+    @Transactional
+    @RetryOnOptimisticLock
+    public BulkMatchResult matchPendingOrders(AssetSymbol symbol) {
+        matchingEngine.lockSymbol(symbol);
+        return match(orderRepository.findByAssetNameAndStatus(symbol.getSymbol(), OrderStatus.PENDING), new ArrayList<>());
+    }
+
+    @Transactional
+    @RetryOnOptimisticLock
+    public BulkMatchResult matchOrders(Collection<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one order id is required");
+        }
+        if (orderIds.size() > maxOrders) {
+            throw new IllegalArgumentException("Cannot match more than " + maxOrders + " orders at once");
+        }
+
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(orderIds));
+        Set<String> symbols = new TreeSet<>();
+        inChunks(ids, chunk -> symbols.addAll(orderRepository.findAssetNamesByIdIn(chunk)));
+        symbols.forEach(symbol -> matchingEngine.lockSymbol(AssetSymbol.of(symbol)));
+
+        Map<Long, Order> ordersById = new HashMap<>();
+        inChunks(ids, chunk -> orderRepository.findAllById(chunk).forEach(order -> ordersById.put(order.getId(), order)));
+
+        List<BulkMatchResult.Rejection> rejected = new ArrayList<>();
+        List<Order> pending = new ArrayList<>();
+        for (Long id : ids) {
+            Order order = ordersById.get(id);
+            if (order == null) {
+                rejected.add(new BulkMatchResult.Rejection(id, "Order not found"));
+            } else if (order.getStatus() != OrderStatus.PENDING) {
+                rejected.add(new BulkMatchResult.Rejection(id, "Only pending orders can be matched"));
+            } else {
+                pending.add(order);
+            }
+        }
+        return match(pending, rejected);
+    }
+
+    private BulkMatchResult match(List<Order> orders, List<BulkMatchResult.Rejection> rejected) {
+        List<AssetKey> keys = new ArrayList<>();
+        for (Order order : orders) {
+            keys.add(AssetKey.of(order.getCustomerId(), order.getAssetSymbol().getSymbol()));
+            if (order.getOrderSide() == OrderSide.SELL) {
+                keys.add(AssetKey.of(order.getCustomerId(), TRY));
+            }
+        }
+        Map<AssetKey, Asset> assets = keys.isEmpty() ? Map.of() : assetManagementService.getOrCreateAssetsForUpdate(keys);
+
+        int matched = 0;
+        for (Order order : orders) {
+            Asset asset = assets.get(AssetKey.of(order.getCustomerId(), order.getAssetSymbol().getSymbol()));
+            Quantity remaining = order.getRemainingSize();
+            Asset[] balances;
+            if (order.getOrderSide() == OrderSide.BUY) {
+                // TRY was already reserved when the order was placed
+                asset.addSize(remaining);
+                balances = new Asset[]{asset};
+            } else {
+                if (!asset.getSize().isSufficient(remaining)) {
+                    rejected.add(new BulkMatchResult.Rejection(order.getId(), "Insufficient total size"));
+                    continue;
+                }
+                Asset tryAsset = assets.get(AssetKey.of(order.getCustomerId(), TRY));
+                asset.subtractSize(remaining);
+                tryAsset.addSize(Quantity.ofMinorUnits(order.getRemainingAmount().getMinorUnits()));
+                balances = new Asset[]{asset, tryAsset};
+            }
+            order.match();
+            matchingEngine.remove(order);
+            orderOutbox.append(OrderEventType.MATCHED, order, balances);
+            orderStatusStreamService.publish(order);
+            matched++;
+        }
+
+        log.debug("Bulk match: {} matched, {} rejected", matched, rejected.size());
+        return new BulkMatchResult(matched, rejected);
+    }
+
+    private static void inChunks(List<Long> ids, Consumer<List<Long>> action) {
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            action.accept(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size())));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.brokage.application.service.order;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class BulkMatchResult {
+
+    int matchedCount;
+    List<Rejection> rejected;
+
+    @Value
+    public static class Rejection {
+        Long orderId;
+        String reason;
+    }
+}
@@ -1,25 +1,38 @@
 package com.brokage.application.service.order;
 
 import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderEventType;
 import com.brokage.domain.enums.OrderSide;
+import com.brokage.infrastructure.metrics.OperationTags;
+import com.brokage.infrastructure.metrics.annotation.TimedService;
 import com.brokage.infrastructure.repository.OrderRepository;
+import com.brokage.infrastructure.retry.annotation.RetryOnOptimisticLock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@TimedService
 @RequiredArgsConstructor
 public class CancelOrderService {
     
     private final OrderRepository orderRepository;
     private final AssetManagementService assetManagementService;
     private final FetchOrderService fetchOrderService;
+    private final MatchingEngine matchingEngine;
+    private final OrderStatusStreamService orderStatusStreamService;
+    private final OrderOutbox orderOutbox;
     
     @Transactional
+    @RetryOnOptimisticLock
     public void cancelOrder(Long orderId, Long customerId) {
+        matchingEngine.lockSymbolForOrder(orderId);
         Order order = fetchOrderService.getOrderById(orderId);
+        OperationTags.describe(order);
         
         if (!order.getCustomerId().equals(customerId)) {
             throw new IllegalArgumentException("Order does not belong to customer");
@@ -29,15 +42,19 @@ public class CancelOrderService {
             throw new IllegalStateException("Order cannot be canceled");
         }
         
+        Asset released;
         if (order.getOrderSide() == OrderSide.BUY) {
-            Asset tryAsset = assetManagementService.getAssetForUpdate(customerId, "TRY");
-            tryAsset.releaseAmount(order.getTotalAmount().getAmount());
+            released = assetManagementService.getAssetForUpdate(customerId, "TRY");
+            released.releaseAmount(order.getRemainingAmount().getAmount());
         } else {
-            Asset asset = assetManagementService.getAssetForUpdate(customerId, order.getAssetSymbol().getSymbol());
-            asset.releaseAmount(order.getSize().getValue());
+            released = assetManagementService.getAssetForUpdate(customerId, order.getAssetSymbol().getSymbol());
+            released.releaseAmount(order.getRemainingSize().getValue());
         }
         
         order.cancel();
+        matchingEngine.remove(order);
         orderRepository.save(order);
+        orderOutbox.append(OrderEventType.CANCELED, order, released);
+        orderStatusStreamService.publish(order);
     }
 }
@@ -3,61 +3,146 @@ package com.brokage.application.service.order;
 import com.brokage.application.dto.request.CreateOrderRequest;
 import com.brokage.application.mapper.OrderMapper;
 import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderEventType;
 import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.enums.OrderType;
+import com.brokage.domain.valueobject.AssetSymbol;
 import com.brokage.domain.valueobject.Money;
 import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.metrics.OperationTags;
+import com.brokage.infrastructure.metrics.annotation.TimedService;
 import com.brokage.infrastructure.repository.OrderRepository;
-import lombok.RequiredArgsConstructor;
+import com.brokage.infrastructure.retry.annotation.RetryOnOptimisticLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 @Service
-@RequiredArgsConstructor
+@TimedService
 public class CreateOrderService {
     
+    private static final BigDecimal MINIMUM_PRICE = new BigDecimal("0.01");
+    
     private final OrderRepository orderRepository;
     private final AssetManagementService assetManagementService;
     private final OrderMapper orderMapper;
+    private final MatchingEngine matchingEngine;
+    private final OrderOutbox orderOutbox;
+    private final OrderStatusStreamService orderStatusStreamService;
+    // How far past the best opposite price a market order may sweep; also caps a market buy's TRY reservation
+    private final BigDecimal marketPriceCollarPercent;
+    
+    public CreateOrderService(OrderRepository orderRepository,
+                              AssetManagementService assetManagementService,
+                              OrderMapper orderMapper,
+                              MatchingEngine matchingEngine,
+                              OrderOutbox orderOutbox,
+                              OrderStatusStreamService orderStatusStreamService,
+                              @Value("${app.orders.market.price-collar-percent:5}") BigDecimal marketPriceCollarPercent) {
+        this.orderRepository = orderRepository;
+        this.assetManagementService = assetManagementService;
+        this.orderMapper = orderMapper;
+        this.matchingEngine = matchingEngine;
+        this.orderOutbox = orderOutbox;
+        this.orderStatusStreamService = orderStatusStreamService;
+        this.marketPriceCollarPercent = marketPriceCollarPercent;
+    }
     
     @Transactional
+    @RetryOnOptimisticLock
     public Order createOrder(CreateOrderRequest request) {
+        AssetSymbol symbol = AssetSymbol.traded(request.getAssetName());
+        OperationTags.describe(request.getOrderSide(), symbol);
         validateOrderRequest(request);
+        matchingEngine.lockSymbol(symbol);
 
-        if (request.getOrderSide() == OrderSide.BUY) {
-            handleBuyOrder(request);
-        } else {
-            handleSellOrder(request);
-        }
+        boolean market = request.getOrderType() == OrderType.MARKET;
+        Money price = market ? marketPrice(symbol, request.getOrderSide()) : Money.of(request.getPrice());
+        Asset reserved = request.getOrderSide() == OrderSide.BUY
+                ? handleBuyOrder(request, price)
+                : handleSellOrder(request);
 
         Order order = orderMapper.toEntity(request);
-        return orderRepository.save(order);
+        if (market) {
+            order.setPrice(price);
+        }
+        order = orderRepository.save(order);
+        // Recorded before matching so that a fill's MATCHED event always follows the order's CREATED event
+        orderOutbox.append(OrderEventType.CREATED, order, reserved);
+        matchingEngine.submit(order);
+        if (market && order.getStatus() == OrderStatus.PENDING) {
+            cancelRemainder(order);
+        }
+        return order;
     }
     
     private void validateOrderRequest(CreateOrderRequest request) {
         if (request.getSize().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Order size must be positive");
         }
+        if (request.getOrderType() == OrderType.MARKET) {
+            if (request.getPrice() != null) {
+                throw new IllegalArgumentException("Market orders take no price");
+            }
+            return;
+        }
+        if (request.getPrice() == null) {
+            throw new IllegalArgumentException("Limit orders require a price");
+        }
         if (request.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Order price must be positive");
         }
     }
     
-    private void handleBuyOrder(CreateOrderRequest request) {
+    // The worst price a market order accepts, a collar around the best price on the other side of the book
+    private Money marketPrice(AssetSymbol symbol, OrderSide side) {
+        Money best = matchingEngine.bestPrice(symbol, side == OrderSide.BUY ? OrderSide.SELL : OrderSide.BUY)
+                .orElseThrow(() -> new IllegalStateException("No liquidity for market order"));
+        BigDecimal collar = marketPriceCollarPercent.movePointLeft(2);
+        BigDecimal limit = side == OrderSide.BUY
+                ? best.getAmount().multiply(BigDecimal.ONE.add(collar)).setScale(2, RoundingMode.DOWN)
+                : best.getAmount().multiply(BigDecimal.ONE.subtract(collar)).setScale(2, RoundingMode.UP);
+        return Money.of(limit.max(MINIMUM_PRICE));
+    }
+    
+    // A market order never rests, so the part the sweep could not fill is canceled right away
+    private void cancelRemainder(Order order) {
+        Asset released;
+        if (order.getOrderSide() == OrderSide.BUY) {
+            released = assetManagementService.getAssetForUpdate(order.getCustomerId(), "TRY");
+            released.releaseAmount(order.getRemainingAmount().getAmount());
+        } else {
+            released = assetManagementService.getAssetForUpdate(order.getCustomerId(), order.getAssetSymbol().getSymbol());
+            released.releaseAmount(order.getRemainingSize().getValue());
+        }
+        
+        order.cancel();
+        orderRepository.save(order);
+        orderOutbox.append(OrderEventType.CANCELED, order, released);
+        orderStatusStreamService.publish(order);
+    }
+    
+    private Asset handleBuyOrder(CreateOrderRequest request, Money price) {
         Asset tryAsset = assetManagementService.getAssetForUpdate(request.getCustomerId(), "TRY");
-        Money totalAmount = Money.of(request.getPrice()).multiply(Quantity.of(request.getSize()));
+        Money totalAmount = price.multiply(Quantity.of(request.getSize()));
         
         if (tryAsset.getUsableSize().compareTo(totalAmount.getAmount()) < 0) {
             throw new IllegalStateException("Insufficient TRY balance");
         }
         
         tryAsset.reserveAmount(totalAmount.getAmount());
+        return tryAsset;
     }
     
-    private void handleSellOrder(CreateOrderRequest request) {
+    private Asset handleSellOrder(CreateOrderRequest request) {
         Asset asset = assetManagementService.getAssetForUpdate(request.getCustomerId(), request.getAssetName());
         
         if (asset.getUsableSize().compareTo(request.getSize()) < 0) {
@@ -65,5 +150,6 @@ public class CreateOrderService {
         }
         
         asset.reserveAmount(request.getSize());
+        return asset;
     }
 }
@@ -2,8 +2,12 @@ package com.brokage.application.service.order;
 
 import com.brokage.domain.entity.Order;
 import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.infrastructure.metrics.OperationTags;
+import com.brokage.infrastructure.metrics.annotation.TimedService;
 import com.brokage.infrastructure.repository.OrderRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,29 +15,98 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
+@TimedService
 public class FetchOrderService {
     
+    // Open-ended bounds for pages without a date range
+    private static final LocalDateTime EARLIEST_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    
     private final OrderRepository orderRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
     
-    @Transactional(readOnly = true)
-    public List<Order> getCustomerOrders(Long customerId) {
-        return orderRepository.findByCustomerId(customerId);
+    public FetchOrderService(OrderRepository orderRepository,
+                             @Value("${app.orders.page.default-size:50}") int defaultPageSize,
+                             @Value("${app.orders.page.max-size:500}") int maxPageSize) {
+        this.orderRepository = orderRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
     
     @Transactional(readOnly = true)
-    public List<Order> getCustomerOrdersByDateRange(Long customerId, LocalDateTime startDate, LocalDateTime endDate) {
-        return orderRepository.findByCustomerIdAndDateRange(customerId, startDate, endDate);
+    public OrderPage getCustomerOrderPage(Long customerId, LocalDateTime startDate, LocalDateTime endDate,
+                                          String cursor, Integer pageSize) {
+        int size = resolvePageSize(pageSize);
+        LocalDateTime cursorDate = endDate != null ? endDate : LATEST_DATE;
+        Long cursorId = Long.MAX_VALUE;
+        if (cursor != null) {
+            OrderCursor position = OrderCursor.decode(cursor);
+            if (!position.getCreatedDate().isAfter(cursorDate)) {
+                cursorDate = position.getCreatedDate();
+                cursorId = position.getId();
+            }
+        }
+
+        // One extra row tells whether another page follows without a count query
+        List<Order> orders = orderRepository.findPageByCustomerId(customerId,
+                startDate != null ? startDate : EARLIEST_DATE, cursorDate, cursorId, Limit.of(size + 1));
+        return toPage(orders, size);
     }
     
     @Transactional(readOnly = true)
-    public List<Order> getPendingOrders() {
-        return orderRepository.findByStatusOrderByCreatedDate(OrderStatus.PENDING);
+    public OrderPage getPendingOrderPage(PendingOrderFilter filter, String cursor, Integer pageSize) {
+        int size = resolvePageSize(pageSize);
+        // Only normalized: a filter on a symbol that was never traded simply matches nothing
+        String assetName = filter.getAssetName() != null ? new AssetSymbol(filter.getAssetName()).getSymbol() : null;
+        LocalDateTime cursorDate = filter.getStartDate() != null ? filter.getStartDate() : EARLIEST_DATE;
+        Long cursorId = Long.MIN_VALUE;
+        if (cursor != null) {
+            OrderCursor position = OrderCursor.decode(cursor);
+            if (!position.getCreatedDate().isBefore(cursorDate)) {
+                cursorDate = position.getCreatedDate();
+                cursorId = position.getId();
+            }
+        }
+
+        List<Order> orders = orderRepository.findPageByStatus(OrderStatus.PENDING, cursorDate, cursorId,
+                filter.getEndDate() != null ? filter.getEndDate() : LATEST_DATE,
+                assetName, filter.getOrderSide(), filter.getCustomerId(), Limit.of(size + 1));
+        return toPage(orders, size);
     }
     
     @Transactional(readOnly = true)
     public Order getOrderById(Long orderId) {
-        return orderRepository.findById(orderId)
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found"));
+        OperationTags.describe(order);
+        return order;
+    }
+    
+    @Transactional(readOnly = true)
+    public AssetSymbol getOrderAssetSymbol(Long orderId) {
+        AssetSymbol symbol = orderRepository.findAssetNameById(orderId)
+                .map(AssetSymbol::of)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found"));
+        OperationTags.describe(symbol);
+        return symbol;
+    }
+    
+    private static OrderPage toPage(List<Order> orders, int size) {
+        if (orders.size() <= size) {
+            return new OrderPage(orders, null);
+        }
+        List<Order> page = orders.subList(0, size);
+        return new OrderPage(page, OrderCursor.from(page.get(size - 1)).encode());
+    }
+    
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return defaultPageSize;
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(pageSize, maxPageSize);
     }
 }
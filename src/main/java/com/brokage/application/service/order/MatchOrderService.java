@@ -1,55 +1,71 @@
 package com.brokage.application.service.order;
 
 import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderEventType;
 import com.brokage.domain.enums.OrderSide;
 import com.brokage.domain.enums.OrderStatus;
 import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.metrics.OperationTags;
+import com.brokage.infrastructure.metrics.annotation.TimedService;
 import com.brokage.infrastructure.repository.OrderRepository;
+import com.brokage.infrastructure.retry.annotation.RetryOnOptimisticLock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@TimedService
 @RequiredArgsConstructor
 public class MatchOrderService {
     
     private final OrderRepository orderRepository;
     private final AssetManagementService assetManagementService;
     private final FetchOrderService fetchOrderService;
+    private final MatchingEngine matchingEngine;
+    private final OrderStatusStreamService orderStatusStreamService;
+    private final OrderOutbox orderOutbox;
     
     @Transactional
+    @RetryOnOptimisticLock
     public void matchOrder(Long orderId) {
+        matchingEngine.lockSymbolForOrder(orderId);
         Order order = fetchOrderService.getOrderById(orderId);
+        OperationTags.describe(order);
         
         if (order.getStatus() != OrderStatus.PENDING) {
             throw new IllegalStateException("Only pending orders can be matched");
         }
         
-        if (order.getOrderSide() == OrderSide.BUY) {
-            handleBuyOrderMatching(order);
-        } else {
-            handleSellOrderMatching(order);
-        }
+        Asset[] balances = order.getOrderSide() == OrderSide.BUY
+                ? handleBuyOrderMatching(order)
+                : handleSellOrderMatching(order);
         
         order.match();
+        matchingEngine.remove(order);
         orderRepository.save(order);
+        orderOutbox.append(OrderEventType.MATCHED, order, balances);
+        orderStatusStreamService.publish(order);
     }
     
-    private void handleBuyOrderMatching(Order order) {
+    private Asset[] handleBuyOrderMatching(Order order) {
         Asset targetAsset = assetManagementService.getOrCreateAsset(order.getCustomerId(), order.getAssetSymbol().getSymbol());
         
         // For buy orders, we just add the bought asset (TRY was already reserved)
-        targetAsset.addSize(order.getSize());
+        targetAsset.addSize(order.getRemainingSize());
+        return new Asset[]{targetAsset};
     }
     
-    private void handleSellOrderMatching(Order order) {
+    private Asset[] handleSellOrderMatching(Order order) {
         Asset asset = assetManagementService.getAssetForUpdate(order.getCustomerId(), order.getAssetSymbol().getSymbol());
         Asset tryAsset = assetManagementService.getOrCreateAsset(order.getCustomerId(), "TRY");
         
         // For sell orders, subtract the sold asset and add the received TRY amount
-        asset.subtractSize(order.getSize());
-        tryAsset.addSize(Quantity.of(order.getTotalAmount().getAmount()));
+        asset.subtractSize(order.getRemainingSize());
+        tryAsset.addSize(Quantity.ofMinorUnits(order.getRemainingAmount().getMinorUnits()));
+        return new Asset[]{asset, tryAsset};
     }
 }
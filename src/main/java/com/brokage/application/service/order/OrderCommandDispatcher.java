@@ -0,0 +1,53 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.dto.request.CreateOrderRequest;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.infrastructure.concurrent.OrderSequencer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OrderCommandDispatcher {
+
+    private final OrderSequencer orderSequencer;
+    private final CreateOrderService createOrderService;
+    private final BatchCreateOrderService batchCreateOrderService;
+    private final CancelOrderService cancelOrderService;
+    private final MatchOrderService matchOrderService;
+    private final BulkMatchOrderService bulkMatchOrderService;
+    private final FetchOrderService fetchOrderService;
+
+    public Order createOrder(CreateOrderRequest request) {
+        return orderSequencer.execute(AssetSymbol.traded(request.getAssetName()),
+                () -> createOrderService.createOrder(request));
+    }
+
+    // A batch spans symbols, so it runs on the caller thread and relies on the engine's symbol locks
+    public List<BatchOrderResult> createOrders(List<CreateOrderRequest> requests) {
+        return batchCreateOrderService.createOrders(requests);
+    }
+
+    public void cancelOrder(Long orderId, Long customerId) {
+        orderSequencer.execute(fetchOrderService.getOrderAssetSymbol(orderId),
+                () -> cancelOrderService.cancelOrder(orderId, customerId));
+    }
+
+    public void matchOrder(Long orderId) {
+        orderSequencer.execute(fetchOrderService.getOrderAssetSymbol(orderId),
+                () -> matchOrderService.matchOrder(orderId));
+    }
+
+    public BulkMatchResult matchPendingOrders(String assetName) {
+        AssetSymbol symbol = AssetSymbol.traded(assetName);
+        return orderSequencer.execute(symbol, () -> bulkMatchOrderService.matchPendingOrders(symbol));
+    }
+
+    // Like a batch, an id list may span symbols and runs on the caller thread
+    public BulkMatchResult matchOrders(List<Long> orderIds) {
+        return bulkMatchOrderService.matchOrders(orderIds);
+    }
+}
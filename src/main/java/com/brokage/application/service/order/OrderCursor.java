@@ -0,0 +1,39 @@
+package com.brokage.application.service.order;
+
+import com.brokage.domain.entity.Order;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Position in a (created_date, id) keyset ordered list of orders, passed to clients as an opaque token
+@Value
+public class OrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime createdDate;
+    Long id;
+
+    public static OrderCursor from(Order order) {
+        return new OrderCursor(order.getCreatedDate(), order.getId());
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new OrderCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid order cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
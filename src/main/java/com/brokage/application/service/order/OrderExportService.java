@@ -0,0 +1,69 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.domain.entity.Order;
+import com.brokage.infrastructure.repository.OrderRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class OrderExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+
+    public OrderExportService(OrderRepository orderRepository, OrderMapper orderMapper,
+                              EntityManager entityManager, ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.entityManager = entityManager;
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("");
+    }
+
+    /**
+     * Writes every order of the customer as one JSON object per line, oldest first. Each order is
+     * detached once written so the persistence context does not grow with the history.
+     */
+    @Transactional(readOnly = true)
+    public long exportCustomerOrders(Long customerId, OutputStream out) {
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamByCustomerId(customerId);
+             JsonGenerator generator = writer.createGenerator(out)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                writer.writeValue(generator, orderMapper.toResponse(order));
+                generator.writeRaw('\n');
+                entityManager.detach(order);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Order export interrupted for customer " + customerId, ex);
+        }
+        log.debug("Exported {} orders for customer {}", count, customerId);
+        return count;
+    }
+}
@@ -0,0 +1,17 @@
+package com.brokage.application.service.order;
+
+import com.brokage.domain.entity.Order;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class OrderPage {
+
+    List<Order> orders;
+    String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,229 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.dto.response.OrderResponse;
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.domain.entity.Order;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes order status transitions to the customer's open Server-Sent Events streams. Transitions are
+ * collected per transaction and only sent after it commits, so clients never see a change that was rolled
+ * back. Each stream has its own bounded queue drained on a sender thread, so a client that stops reading
+ * only holds up its own stream; once its queue is full or a send has been blocked for too long it is dropped.
+ */
+@Service
+@Slf4j
+public class OrderStatusStreamService {
+
+    static final String EVENT_NAME = "order-status";
+
+    private final OrderMapper orderMapper;
+    private final long timeoutMillis;
+    private final int maxSubscribersPerCustomer;
+    private final int bufferSize;
+    private final long sendTimeLimitNanos;
+    private final ConcurrentMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-status-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // A sender thread stays blocked while its client does not read, so threads are not pooled to a fixed size
+    private final ExecutorService senders = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "order-status-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderStatusStreamService(OrderMapper orderMapper,
+                                    @Value("${app.orders.stream.timeout-ms:1800000}") long timeoutMillis,
+                                    @Value("${app.orders.stream.max-subscribers-per-customer:5}") int maxSubscribersPerCustomer,
+                                    @Value("${app.orders.stream.heartbeat-seconds:15}") long heartbeatSeconds,
+                                    @Value("${app.orders.stream.buffer-size:256}") int bufferSize,
+                                    @Value("${app.orders.stream.send-time-limit-ms:5000}") long sendTimeLimitMillis) {
+        this.orderMapper = orderMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribersPerCustomer = maxSubscribersPerCustomer;
+        this.bufferSize = bufferSize;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        if (heartbeatSeconds > 0) {
+            heartbeats.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(list -> list.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    public SseEmitter subscribe(Long customerId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(customerId, emitter).offer(SseEmitter.event().comment("subscribed"));
+        return emitter;
+    }
+
+    // Snapshots the order now; the snapshot is sent once the surrounding transaction commits
+    public void publish(Order order) {
+        if (!subscribers.containsKey(order.getCustomerId())) {
+            return;
+        }
+        OrderResponse event = orderMapper.toResponse(order);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(List.of(event));
+            return;
+        }
+        pendingEvents().add(event);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    Subscriber register(Long customerId, SseEmitter emitter) {
+        List<Subscriber> customerSubscribers = subscribers.computeIfAbsent(customerId, id -> new CopyOnWriteArrayList<>());
+        if (customerSubscribers.size() >= maxSubscribersPerCustomer) {
+            throw new IllegalStateException("Too many open order streams for customer " + customerId);
+        }
+        Subscriber subscriber = new Subscriber(customerId, emitter);
+        customerSubscribers.add(subscriber);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(ex -> unregister(subscriber));
+        return subscriber;
+    }
+
+    // Only enqueues, so the committing thread never writes to a socket
+    private void dispatch(List<OrderResponse> events) {
+        for (OrderResponse event : events) {
+            for (Subscriber subscriber : subscribers.getOrDefault(event.getCustomerId(), List.of())) {
+                subscriber.offer(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(String.valueOf(event.getId()))
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        subscribers.values().forEach(list -> list.forEach(subscriber ->
+                subscriber.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.customerId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    final class Subscriber {
+
+        private final Long customerId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean sending;
+        private volatile long sendStartedNanos;
+
+        private Subscriber(Long customerId, SseEmitter emitter) {
+            this.customerId = customerId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (sending && System.nanoTime() - sendStartedNanos > sendTimeLimitNanos) {
+                drop("send blocked for longer than the time limit");
+                return;
+            }
+            if (!queue.offer(event)) {
+                drop("buffer full");
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    sending = true;
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException ex) {
+                        log.debug("Dropping order stream of customer {}: {}", customerId, ex.getMessage());
+                        unregister(this);
+                        emitter.completeWithError(ex);
+                        return;
+                    } finally {
+                        sending = false;
+                    }
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        // Completing may itself wait on the connection, so it runs on a sender thread
+        private void drop(String reason) {
+            log.debug("Dropping order stream of customer {}: {}", customerId, reason);
+            unregister(this);
+            queue.clear();
+            try {
+                senders.execute(emitter::complete);
+            } catch (RejectedExecutionException ex) {
+                emitter.complete();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OrderResponse> pendingEvents() {
+        List<OrderResponse> events = (List<OrderResponse>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            List<OrderResponse> newEvents = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, newEvents);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrderStatusStreamService.this);
+                    if (status == STATUS_COMMITTED) {
+                        dispatch(newEvents);
+                    }
+                }
+            });
+            events = newEvents;
+        }
+        return events;
+    }
+}
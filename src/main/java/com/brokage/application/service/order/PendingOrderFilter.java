@@ -0,0 +1,17 @@
+package com.brokage.application.service.order;
+
+import com.brokage.domain.enums.OrderSide;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+// Optional server-side filters of the admin pending order feed; null fields match every order
+@Value
+public class PendingOrderFilter {
+
+    String assetName;
+    OrderSide orderSide;
+    Long customerId;
+    LocalDateTime startDate;
+    LocalDateTime endDate;
+}
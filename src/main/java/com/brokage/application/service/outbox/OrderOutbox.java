@@ -0,0 +1,81 @@
+package com.brokage.application.service.outbox;
+
+import com.brokage.application.dto.event.OrderEvent;
+import com.brokage.application.mapper.AssetMapper;
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.entity.OutboxEvent;
+import com.brokage.domain.enums.OrderEventType;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records order lifecycle events in the outbox table. Events are written in the caller's transaction, so
+ * an event exists exactly when the change it describes was committed; {@link OutboxRelay} delivers them.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderMapper orderMapper;
+    private final AssetMapper assetMapper;
+    private final ObjectMapper objectMapper;
+
+    // The payload is serialized now, so later changes in the same transaction do not leak into it
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OrderEventType eventType, Order order, Asset... balances) {
+        save(event(eventType, order, balances), order);
+    }
+
+    // One event per fill of a resting or incoming order: PARTIALLY_FILLED until the fill that completes it
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendFill(Order order, Money price, Quantity quantity, Asset... balances) {
+        OrderEventType eventType = order.getStatus() == OrderStatus.MATCHED
+                ? OrderEventType.MATCHED
+                : OrderEventType.PARTIALLY_FILLED;
+        OrderEvent event = event(eventType, order, balances);
+        event.setFillPrice(price.getAmount());
+        event.setFillSize(quantity.getValue());
+        save(event, order);
+    }
+
+    private OrderEvent event(OrderEventType eventType, Order order, Asset... balances) {
+        OrderEvent event = new OrderEvent();
+        event.setEventType(eventType);
+        event.setOccurredAt(LocalDateTime.now());
+        event.setOrder(orderMapper.toResponse(order));
+        event.setFilledSize(order.getFilledSize().getValue());
+        event.setAmount(order.getTotalAmount().getAmount());
+        event.setBalances(assetMapper.toResponseList(List.of(balances)));
+        return event;
+    }
+
+    private void save(OrderEvent event, Order order) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventType(event.getEventType());
+        outboxEvent.setOrderId(order.getId());
+        outboxEvent.setPayload(serialize(event));
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private String serialize(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize order event", ex);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.brokage.application.service.outbox;
+
+import com.brokage.domain.entity.OutboxEvent;
+import com.brokage.infrastructure.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox table to the configured {@link OutboxSink} in id order. Each batch is read, published
+ * and deleted in one transaction, so a failed publish leaves the batch in place for the next poll and a
+ * crash after publishing redelivers it. Only one relay may run against a database.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink outboxSink,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${app.outbox.relay.poll-interval-ms:200}") long pollIntervalMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    // Started once the context is ready so the first poll does not race schema creation
+    @EventListener(ContextRefreshedEvent.class)
+    public void start() {
+        if (enabled && started.compareAndSet(false, true)) {
+            executor.scheduleWithFixedDelay(this::drainSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // Relays full batches until the backlog is drained; returns the number of events relayed
+    public long drain() {
+        long relayed = 0;
+        int count;
+        do {
+            count = relayBatch();
+            relayed += count;
+        } while (count == batchSize);
+        return relayed;
+    }
+
+    public long getRelayedCount() {
+        return relayedCount.get();
+    }
+
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    private int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findByOrderByIdAsc(Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            try {
+                outboxSink.publish(events);
+            } catch (Exception ex) {
+                throw new IllegalStateException("Outbox sink rejected " + events.size() + " events", ex);
+            }
+            outboxEventRepository.deleteAllInBatch(events);
+            return events.size();
+        });
+        relayedCount.addAndGet(relayed);
+        return relayed;
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException ex) {
+            failedBatches.incrementAndGet();
+            log.warn("Outbox relay failed, retrying in {} ms: {}", pollIntervalMillis, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.brokage.application.service.outbox;
+
+import com.brokage.domain.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. A batch counts as delivered once this returns; if it throws, the
+ * whole batch is retried, so sinks must tolerate receiving an event more than once (the event id is stable).
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -14,16 +14,20 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "assets", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"customer_id", "asset_name"})
+        @UniqueConstraint(name = "uk_assets_customer_asset", columnNames = {"customer_id", "asset_name"})
 })
 @Data
 @EntityListeners(AuditingEntityListener.class)
 public class Asset {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assets_seq")
+    @SequenceGenerator(name = "assets_seq", sequenceName = "assets_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_date", nullable = false, updatable = false)
     private LocalDateTime createdDate;
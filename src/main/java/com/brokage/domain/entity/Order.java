@@ -2,6 +2,7 @@ package com.brokage.domain.entity;
 
 import com.brokage.domain.enums.OrderSide;
 import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.enums.OrderType;
 import com.brokage.domain.valueobject.AssetSymbol;
 import com.brokage.domain.valueobject.Money;
 import com.brokage.domain.valueobject.Quantity;
@@ -15,13 +16,18 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_created", columnList = "customer_id, created_date, id"),
+        @Index(name = "idx_orders_status_created", columnList = "status, created_date, id"),
+        @Index(name = "idx_orders_asset_status_created", columnList = "asset_name, status, created_date")
+})
 @Data
 @EntityListeners(AuditingEntityListener.class)
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @CreatedDate
@@ -42,12 +48,22 @@ public class Order {
     @Column(name = "order_side", nullable = false)
     private OrderSide orderSide;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_type", nullable = false)
+    private OrderType orderType = OrderType.LIMIT;
+
     @Embedded
     @AttributeOverrides({
             @AttributeOverride(name = "value", column = @Column(name = "size", precision = 19, scale = 2, nullable = false))
     })
     private Quantity size;
 
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "filled_size", precision = 19, scale = 2, nullable = false))
+    })
+    private Quantity filledSize = Quantity.zero();
+
     @Embedded
     @AttributeOverrides({
             @AttributeOverride(name = "amount", column = @Column(name = "price", precision = 19, scale = 2, nullable = false))
@@ -62,6 +78,14 @@ public class Order {
         return price.multiply(size);
     }
 
+    public Quantity getRemainingSize() {
+        return size.subtract(filledSize);
+    }
+
+    public Money getRemainingAmount() {
+        return price.multiply(getRemainingSize());
+    }
+
     public boolean canBeCanceled() {
         return status == OrderStatus.PENDING;
     }
@@ -77,6 +101,20 @@ public class Order {
         if (status != OrderStatus.PENDING) {
             throw new IllegalStateException("Only pending orders can be matched");
         }
+        filledSize = size;
         status = OrderStatus.MATCHED;
     }
+
+    public void fill(Quantity quantity) {
+        if (status != OrderStatus.PENDING) {
+            throw new IllegalStateException("Only pending orders can be filled");
+        }
+        if (quantity.isGreaterThan(getRemainingSize())) {
+            throw new IllegalStateException("Fill exceeds remaining order size");
+        }
+        filledSize = filledSize.add(quantity);
+        if (filledSize.compareTo(size) == 0) {
+            status = OrderStatus.MATCHED;
+        }
+    }
 }
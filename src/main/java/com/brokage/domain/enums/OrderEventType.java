@@ -0,0 +1,5 @@
+package com.brokage.domain.enums;
+
+public enum OrderEventType {
+    CREATED, CANCELED, PARTIALLY_FILLED, MATCHED
+}
@@ -2,6 +2,7 @@ package com.brokage.domain.valueobject;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,10 +18,16 @@ public class AssetSymbol {
     
     private static final Pattern VALID_SYMBOL_PATTERN = Pattern.compile("^[A-Z]{2,10}$");
     private static final Set<String> CURRENCY_SYMBOLS = Set.of("TRY");
+    private static final int UNREGISTERED = -1;
     
     @Column(name = "asset_name", nullable = false)
     private String symbol;
     
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int id = UNREGISTERED;
+    
     // JPA requirement
     protected AssetSymbol() {}
     
@@ -39,11 +46,31 @@ public class AssetSymbol {
     }
     
     public static AssetSymbol of(String symbol) {
-        return new AssetSymbol(symbol);
+        return AssetSymbolRegistry.intern(symbol);
+    }
+    
+    // For names taken from requests; only symbols that are already known can be traded
+    public static AssetSymbol traded(String symbol) {
+        return AssetSymbolRegistry.lookup(symbol)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown asset symbol: " + symbol));
     }
     
     public static AssetSymbol trySymbol() {
-        return new AssetSymbol("TRY");
+        return AssetSymbolRegistry.intern("TRY");
+    }
+    
+    // Instances loaded by JPA or built with the constructor resolve their id through the registry
+    public int getId() {
+        int resolved = id;
+        if (resolved == UNREGISTERED) {
+            resolved = AssetSymbolRegistry.intern(symbol).id;
+            id = resolved;
+        }
+        return resolved;
+    }
+    
+    void assignId(int id) {
+        this.id = id;
     }
     
     public boolean isCurrency() {
@@ -0,0 +1,100 @@
+package com.brokage.domain.valueobject;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Interns asset symbols so every distinct symbol is normalized and validated once and gets a
+ * dense id in {@code [0, MAX_SYMBOLS)} that can be used as an array index. Ids are never released, so names
+ * taken from requests are resolved with {@link #lookup(String)} and only known symbols are interned.
+ */
+public final class AssetSymbolRegistry {
+
+    public static final int MAX_SYMBOLS = 16384;
+    private static final int MAX_ALIASES = 4 * MAX_SYMBOLS;
+
+    private static final ConcurrentMap<String, AssetSymbol> SYMBOLS = new ConcurrentHashMap<>();
+    // Raw spellings such as "aapl" or " AAPL", bounded because they come straight from requests
+    private static final ConcurrentMap<String, AssetSymbol> ALIASES = new ConcurrentHashMap<>();
+    private static final AtomicReferenceArray<AssetSymbol> BY_ID = new AtomicReferenceArray<>(MAX_SYMBOLS);
+    private static int nextId;
+
+    private AssetSymbolRegistry() {
+    }
+
+    // Registers symbols from trusted sources only: configuration, stored rows and the order journal
+    public static AssetSymbol intern(String symbol) {
+        AssetSymbol known = cached(symbol);
+        if (known != null) {
+            return known;
+        }
+
+        AssetSymbol candidate = new AssetSymbol(symbol);
+        AssetSymbol interned = SYMBOLS.get(candidate.getSymbol());
+        if (interned == null) {
+            interned = register(candidate);
+        }
+        addAlias(symbol, interned);
+        return interned;
+    }
+
+    /**
+     * Resolves a symbol that came from a request without registering it, so made-up names cannot use up the
+     * id space. A malformed symbol still throws, a well-formed but unknown one is empty.
+     */
+    public static Optional<AssetSymbol> lookup(String symbol) {
+        AssetSymbol known = cached(symbol);
+        if (known != null) {
+            return Optional.of(known);
+        }
+
+        AssetSymbol interned = SYMBOLS.get(new AssetSymbol(symbol).getSymbol());
+        if (interned != null) {
+            addAlias(symbol, interned);
+        }
+        return Optional.ofNullable(interned);
+    }
+
+    public static AssetSymbol byId(int id) {
+        if (id < 0 || id >= MAX_SYMBOLS || BY_ID.get(id) == null) {
+            throw new IllegalArgumentException("Unknown asset symbol id: " + id);
+        }
+        return BY_ID.get(id);
+    }
+
+    public static synchronized int size() {
+        return nextId;
+    }
+
+    private static AssetSymbol cached(String symbol) {
+        if (symbol == null) {
+            return null;
+        }
+        AssetSymbol interned = SYMBOLS.get(symbol);
+        return interned != null ? interned : ALIASES.get(symbol);
+    }
+
+    private static void addAlias(String symbol, AssetSymbol interned) {
+        if (!symbol.equals(interned.getSymbol()) && ALIASES.size() < MAX_ALIASES) {
+            ALIASES.putIfAbsent(symbol, interned);
+        }
+    }
+
+    private static synchronized AssetSymbol register(AssetSymbol candidate) {
+        AssetSymbol existing = SYMBOLS.get(candidate.getSymbol());
+        if (existing != null) {
+            return existing;
+        }
+        if (nextId == MAX_SYMBOLS) {
+            throw new IllegalStateException("Asset symbol registry is full");
+        }
+
+        candidate.assignId(nextId);
+        BY_ID.set(nextId, candidate);
+        SYMBOLS.put(candidate.getSymbol(), candidate);
+        nextId++;
+        return candidate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.brokage.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Arithmetic on non-negative longs holding minor units with a fixed scale of 2
+final class FixedPoint {
+
+    static final int SCALE = 2;
+    static final long ONE = 100;
+
+    private FixedPoint() {
+    }
+
+    static long toMinorUnits(BigDecimal value) {
+        try {
+            return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Value out of fixed-point range: " + value, ex);
+        }
+    }
+
+    static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    // The product of two scale-2 values has scale 4 and is rounded back to scale 2 half up
+    static long multiply(long left, long right) {
+        long product = Math.multiplyExact(left, right);
+        return Math.addExact(product, ONE / 2) / ONE;
+    }
+
+    static String format(long minorUnits) {
+        return String.format("%d.%02d", minorUnits / ONE, minorUnits % ONE);
+    }
+}
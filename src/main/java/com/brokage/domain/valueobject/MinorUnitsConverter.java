@@ -0,0 +1,21 @@
+package com.brokage.domain.valueobject;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+// Stores fixed-point minor units (scale 2) in the existing DECIMAL(19, 2) columns
+@Converter
+public class MinorUnitsConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long minorUnits) {
+        return minorUnits != null ? FixedPoint.toDecimal(minorUnits) : null;
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal value) {
+        return value != null ? FixedPoint.toMinorUnits(value) : null;
+    }
+}
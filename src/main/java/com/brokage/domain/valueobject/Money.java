@@ -1,22 +1,22 @@
 package com.brokage.domain.valueobject;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-@Getter
 @Embeddable
 @EqualsAndHashCode
-@ToString
-public class Money {
+public class Money implements Comparable<Money> {
     
+    private static final Money ZERO = new Money(0L);
+    
+    @Convert(converter = MinorUnitsConverter.class)
     @Column(precision = 19, scale = 2, nullable = false)
-    private BigDecimal amount;
+    private long amount;
     
     // JPA requirement
     protected Money() {}
@@ -28,7 +28,11 @@ public class Money {
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Money amount cannot be negative");
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        this.amount = FixedPoint.toMinorUnits(amount);
+    }
+    
+    private Money(long minorUnits) {
+        this.amount = minorUnits;
     }
     
     public static Money of(BigDecimal amount) {
@@ -43,25 +47,40 @@ public class Money {
         return new Money(BigDecimal.valueOf(amount));
     }
     
+    public static Money ofMinorUnits(long minorUnits) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Money amount cannot be negative");
+        }
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+    
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
+    }
+    
+    public BigDecimal getAmount() {
+        return FixedPoint.toDecimal(amount);
+    }
+    
+    public long getMinorUnits() {
+        return amount;
     }
     
     public Money add(Money other) {
         if (other == null) {
             throw new IllegalArgumentException("Cannot add null money");
         }
-        return new Money(this.amount.add(other.amount));
+        return new Money(Math.addExact(this.amount, other.amount));
     }
     
     public Money subtract(Money other) {
         if (other == null) {
             throw new IllegalArgumentException("Cannot subtract null money");
         }
-        if (this.amount.compareTo(other.amount) < 0) {
+        if (this.amount < other.amount) {
             throw new IllegalStateException("Insufficient money: cannot subtract " + other + " from " + this);
         }
-        return new Money(this.amount.subtract(other.amount));
+        return ofMinorUnits(this.amount - other.amount);
     }
     
     public Money multiply(BigDecimal factor) {
@@ -71,14 +90,14 @@ public class Money {
         if (factor.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Multiplication factor cannot be negative");
         }
-        return new Money(this.amount.multiply(factor));
+        return new Money(getAmount().multiply(factor));
     }
     
     public Money multiply(Quantity quantity) {
         if (quantity == null) {
             throw new IllegalArgumentException("Quantity cannot be null");
         }
-        return multiply(quantity.getValue());
+        return ofMinorUnits(FixedPoint.multiply(this.amount, quantity.getMinorUnits()));
     }
     
     public Money divide(BigDecimal divisor) {
@@ -88,53 +107,59 @@ public class Money {
         if (divisor.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Divisor must be positive");
         }
-        return new Money(this.amount.divide(divisor, 2, RoundingMode.HALF_UP));
+        return new Money(getAmount().divide(divisor, 2, RoundingMode.HALF_UP));
     }
     
     public boolean isZero() {
-        return amount.compareTo(BigDecimal.ZERO) == 0;
+        return amount == 0;
     }
     
     public boolean isPositive() {
-        return amount.compareTo(BigDecimal.ZERO) > 0;
+        return amount > 0;
     }
     
     public boolean isGreaterThan(Money other) {
         if (other == null) {
             return true;
         }
-        return amount.compareTo(other.amount) > 0;
+        return amount > other.amount;
     }
     
     public boolean isLessThan(Money other) {
         if (other == null) {
             return false;
         }
-        return amount.compareTo(other.amount) < 0;
+        return amount < other.amount;
     }
     
     public boolean isGreaterThanOrEqual(Money other) {
         if (other == null) {
             return true;
         }
-        return amount.compareTo(other.amount) >= 0;
+        return amount >= other.amount;
     }
     
     public boolean isLessThanOrEqual(Money other) {
         if (other == null) {
             return false;
         }
-        return amount.compareTo(other.amount) <= 0;
+        return amount <= other.amount;
     }
     
+    @Override
     public int compareTo(Money other) {
         if (other == null) {
             throw new IllegalArgumentException("Cannot compare with null money");
         }
-        return amount.compareTo(other.amount);
+        return Long.compare(amount, other.amount);
     }
 
     public String toDisplayString() {
-        return String.format("%.2f", amount);
+        return FixedPoint.format(amount);
+    }
+
+    @Override
+    public String toString() {
+        return "Money(amount=" + toDisplayString() + ")";
     }
 }
@@ -1,22 +1,23 @@
 package com.brokage.domain.valueobject;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-@Getter
 @Embeddable
 @EqualsAndHashCode
-@ToString
 public class Quantity {
     
+    private static final Quantity ZERO = new Quantity(0L);
+    private static final Quantity ONE = new Quantity(FixedPoint.ONE);
+    
+    @Convert(converter = MinorUnitsConverter.class)
     @Column(precision = 19, scale = 2, nullable = false)
-    private BigDecimal value;
+    private long value;
     
     // JPA requirement
     protected Quantity() {}
@@ -28,7 +29,11 @@ public class Quantity {
         if (value.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Quantity cannot be negative");
         }
-        this.value = value.setScale(2, RoundingMode.HALF_UP);
+        this.value = FixedPoint.toMinorUnits(value);
+    }
+    
+    private Quantity(long minorUnits) {
+        this.value = minorUnits;
     }
     
     public static Quantity of(BigDecimal value) {
@@ -44,32 +49,50 @@ public class Quantity {
     }
     
     public static Quantity of(int value) {
-        return new Quantity(BigDecimal.valueOf(value));
+        if (value < 0) {
+            throw new IllegalArgumentException("Quantity cannot be negative");
+        }
+        return new Quantity(value * FixedPoint.ONE);
+    }
+    
+    public static Quantity ofMinorUnits(long minorUnits) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Quantity cannot be negative");
+        }
+        return minorUnits == 0 ? ZERO : new Quantity(minorUnits);
     }
     
     public static Quantity zero() {
-        return new Quantity(BigDecimal.ZERO);
+        return ZERO;
     }
     
     public static Quantity one() {
-        return new Quantity(BigDecimal.ONE);
+        return ONE;
+    }
+    
+    public BigDecimal getValue() {
+        return FixedPoint.toDecimal(value);
+    }
+    
+    public long getMinorUnits() {
+        return value;
     }
     
     public Quantity add(Quantity other) {
         if (other == null) {
             throw new IllegalArgumentException("Cannot add null quantity");
         }
-        return new Quantity(this.value.add(other.value));
+        return new Quantity(Math.addExact(this.value, other.value));
     }
     
     public Quantity subtract(Quantity other) {
         if (other == null) {
             throw new IllegalArgumentException("Cannot subtract null quantity");
         }
-        if (this.value.compareTo(other.value) < 0) {
+        if (this.value < other.value) {
             throw new IllegalStateException("Insufficient quantity: cannot subtract " + other + " from " + this);
         }
-        return new Quantity(this.value.subtract(other.value));
+        return ofMinorUnits(this.value - other.value);
     }
     
     public Quantity multiply(BigDecimal factor) {
@@ -79,7 +102,7 @@ public class Quantity {
         if (factor.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Multiplication factor cannot be negative");
         }
-        return new Quantity(this.value.multiply(factor));
+        return new Quantity(getValue().multiply(factor));
     }
     
     public Quantity divide(BigDecimal divisor) {
@@ -89,60 +112,65 @@ public class Quantity {
         if (divisor.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Divisor must be positive");
         }
-        return new Quantity(this.value.divide(divisor, 2, RoundingMode.HALF_UP));
+        return new Quantity(getValue().divide(divisor, 2, RoundingMode.HALF_UP));
     }
     
     public boolean isZero() {
-        return value.compareTo(BigDecimal.ZERO) == 0;
+        return value == 0;
     }
     
     public boolean isPositive() {
-        return value.compareTo(BigDecimal.ZERO) > 0;
+        return value > 0;
     }
     
     public boolean isGreaterThan(Quantity other) {
         if (other == null) {
             return true;
         }
-        return value.compareTo(other.value) > 0;
+        return value > other.value;
     }
     
     public boolean isLessThan(Quantity other) {
         if (other == null) {
             return false;
         }
-        return value.compareTo(other.value) < 0;
+        return value < other.value;
     }
     
     public boolean isGreaterThanOrEqual(Quantity other) {
         if (other == null) {
             return true;
         }
-        return value.compareTo(other.value) >= 0;
+        return value >= other.value;
     }
     
     public boolean isLessThanOrEqual(Quantity other) {
         if (other == null) {
             return false;
         }
-        return value.compareTo(other.value) <= 0;
+        return value <= other.value;
     }
     
     public boolean isSufficient(Quantity required) {
         if (required == null) {
             return true;
         }
-        return value.compareTo(required.value) >= 0;
+        return value >= required.value;
     }
     
     public int compareTo(Quantity other) {
         if (other == null) {
             throw new IllegalArgumentException("Cannot compare with null quantity");
         }
-        return value.compareTo(other.value);
+        return Long.compare(value, other.value);
     }
 
     public String toDisplayString() {
-        return String.format("%.2f", value);
+        return FixedPoint.format(value);
+    }
+
+    @Override
+    public String toString() {
+        return "Quantity(value=" + toDisplayString() + ")";
     }
 }
@@ -0,0 +1,37 @@
+package com.brokage.infrastructure.concurrent;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+// Loads a missing AsyncCache entry on the calling thread, outside the cache's map lock where a blocking query
+// would pin a virtual thread. Concurrent callers for the same key wait for the first caller's load.
+public final class CallerLoadingCache {
+
+    private CallerLoadingCache() {
+    }
+
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> value = cache.get(key, (k, executor) -> loading);
+        if (value == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (Throwable ex) {
+                // Caffeine never expires an in-flight future, so it must complete even when the loader throws an Error
+                loading.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return value.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+}
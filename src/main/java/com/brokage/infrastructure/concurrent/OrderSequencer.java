@@ -0,0 +1,172 @@
+package com.brokage.infrastructure.concurrent;
+
+import com.brokage.domain.valueobject.AssetSymbol;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// Routes every command of a symbol to the same single-threaded shard, so commands of one symbol never
+// contend with each other while different symbols are processed in parallel.
+@Component
+@Slf4j
+public class OrderSequencer {
+
+    private final boolean enabled;
+    private final Shard[] shards;
+
+    public OrderSequencer(@Value("${app.sequencer.enabled:true}") boolean enabled,
+                          @Value("${app.sequencer.shards:0}") int shardCount,
+                          @Value("${app.sequencer.ring-size:1024}") int ringSize) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.enabled = enabled;
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i, new RingBuffer<>(ringSize));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Order sequencer disabled, commands run on the calling thread");
+            return;
+        }
+        for (Shard shard : shards) {
+            shard.start();
+        }
+        log.info("Order sequencer started with {} shards", shards.length);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Shard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    public void execute(AssetSymbol symbol, Runnable command) {
+        execute(symbol, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(AssetSymbol symbol, Supplier<T> command) {
+        Shard shard = shardFor(symbol);
+        if (!enabled || Thread.currentThread() == shard.thread) {
+            return command.get();
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        shard.enqueue(() -> {
+            try {
+                result.complete(command.get());
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+
+        // The shard drains every accepted command before it exits, so this cannot wait on a command that never runs
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private Shard shardFor(AssetSymbol symbol) {
+        // Symbol ids are dense, so consecutive symbols land on different shards
+        return shards[symbol.getId() % shards.length];
+    }
+
+    private static final class Shard implements Runnable {
+
+        private final int index;
+        private final RingBuffer<Runnable> commands;
+        // Producers between their running check and the end of their offer; stop waits for them to leave
+        private final AtomicInteger enqueuing = new AtomicInteger();
+        private volatile boolean running;
+        // Set once no producer can offer any more, after which the shard drains the ring and exits
+        private volatile boolean closed;
+        private volatile Thread thread;
+
+        private Shard(int index, RingBuffer<Runnable> commands) {
+            this.index = index;
+            this.commands = commands;
+        }
+
+        private void start() {
+            running = true;
+            thread = new Thread(this, "order-sequencer-" + index);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void stop() {
+            running = false;
+            while (enqueuing.get() > 0) {
+                Thread.onSpinWait();
+            }
+            closed = true;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+                try {
+                    thread.join(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        // A command is either rejected here or offered before the shard is closed, so every accepted one runs
+        private void enqueue(Runnable command) {
+            enqueuing.incrementAndGet();
+            try {
+                if (!running || !commands.offer(command)) {
+                    throw new RejectedExecutionException("Order sequencer shard " + index + " is not accepting commands");
+                }
+            } finally {
+                enqueuing.decrementAndGet();
+            }
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                boolean drained = closed;
+                Runnable command = commands.poll();
+                if (command == null) {
+                    if (drained) {
+                        return;
+                    }
+                    // Every enqueue unparks the shard, so an idle shard sleeps until there is work
+                    LockSupport.park(this);
+                    continue;
+                }
+                try {
+                    command.run();
+                } catch (Throwable ex) {
+                    log.error("Order sequencer shard {} failed to run command", index, ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.brokage.infrastructure.config;
+
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.infrastructure.repository.AssetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Requests can only trade symbols that are already interned: the configured ones and those held in stored assets
+@Component
+@Slf4j
+public class AssetSymbolInitializer implements CommandLineRunner {
+
+    private final AssetRepository assetRepository;
+
+    public AssetSymbolInitializer(AssetRepository assetRepository,
+                                  @Value("${app.asset.traded-symbols:}") List<String> tradedSymbols) {
+        this.assetRepository = assetRepository;
+        tradedSymbols.stream().filter(symbol -> !symbol.isBlank()).forEach(AssetSymbol::of);
+    }
+
+    @Override
+    public void run(String... args) {
+        List<String> held = assetRepository.findDistinctAssetNames();
+        held.forEach(AssetSymbol::of);
+        log.info("Registered {} asset symbols held in stored assets", held.size());
+    }
+}
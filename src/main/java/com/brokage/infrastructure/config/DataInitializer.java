@@ -11,6 +11,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -37,7 +40,6 @@ public class DataInitializer implements CommandLineRunner {
             admin.setFirstName("Admin");
             admin.setLastName("User");
             admin.setEmail("admin@brokage.com");
-            customerRepository.save(admin);
             
             Customer customer1 = new Customer();
             customer1.setUsername("customer1");
@@ -46,7 +48,6 @@ public class DataInitializer implements CommandLineRunner {
             customer1.setFirstName("John");
             customer1.setLastName("Doe");
             customer1.setEmail("john.doe@example.com");
-            customer1 = customerRepository.save(customer1);
             
             Customer customer2 = new Customer();
             customer2.setUsername("customer2");
@@ -55,10 +56,12 @@ public class DataInitializer implements CommandLineRunner {
             customer2.setFirstName("Jane");
             customer2.setLastName("Smith");
             customer2.setEmail("jane.smith@example.com");
-            customer2 = customerRepository.save(customer2);
+            customerRepository.saveAll(List.of(admin, customer1, customer2));
             
-            assetInitializationService.initializeCustomerWithTRY(customer1.getId(), new BigDecimal("100000"));
-            assetInitializationService.initializeCustomerWithTRY(customer2.getId(), new BigDecimal("50000"));
+            Map<Long, BigDecimal> balances = new LinkedHashMap<>();
+            balances.put(customer1.getId(), new BigDecimal("100000"));
+            balances.put(customer2.getId(), new BigDecimal("50000"));
+            assetInitializationService.initializeCustomersWithTRY(balances);
             
             log.info("Sample data initialized successfully");
             log.info("Admin credentials: admin/admin123");
@@ -0,0 +1,22 @@
+package com.brokage.infrastructure.config;
+
+import com.brokage.api.websocket.MarketDataWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+// The upgrade request goes through the security filter chain, so clients authenticate with the usual bearer token
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final MarketDataWebSocketHandler marketDataWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(marketDataWebSocketHandler, "/ws/market-data");
+    }
+}
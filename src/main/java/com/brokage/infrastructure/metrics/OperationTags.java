@@ -0,0 +1,73 @@
+package com.brokage.infrastructure.metrics;
+
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+
+/**
+ * Side and symbol class of the order a timed service call works on. The call only learns them once it has
+ * read its request or loaded its order, so the service describes them here and the metrics aspect reads
+ * them back when the call completes. Describing outside a timed call does nothing.
+ */
+public final class OperationTags {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private OperationTags() {
+    }
+
+    public static void describe(Order order) {
+        describe(order.getOrderSide(), order.getAssetSymbol());
+    }
+
+    public static void describe(OrderSide side, AssetSymbol symbol) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.side = side.name();
+            scope.symbolType = symbol.getType().name();
+        }
+    }
+
+    public static void describe(AssetSymbol symbol) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.symbolType = symbol.getType().name();
+        }
+    }
+
+    // Timed calls nest, e.g. a cancel loads its order through FetchOrderService
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static void close(Scope scope) {
+        if (scope.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope.parent);
+        }
+    }
+
+    public static final class Scope {
+
+        private final Scope parent;
+        private String side = NONE;
+        private String symbolType = NONE;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public String getSide() {
+            return side;
+        }
+
+        public String getSymbolType() {
+            return symbolType;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.brokage.infrastructure.metrics;
+
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.infrastructure.repository.AssetRepository;
+import com.brokage.infrastructure.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Read from the database on every scrape, so they agree with the order and asset endpoints
+@Component
+@RequiredArgsConstructor
+public class TradingGauges implements MeterBinder {
+
+    private final OrderRepository orderRepository;
+    private final AssetRepository assetRepository;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("brokage.orders.pending", orderRepository, repository -> repository.countByStatus(OrderStatus.PENDING))
+                .description("Orders waiting to be matched or canceled")
+                .register(registry);
+        Gauge.builder("brokage.assets.reserved", assetRepository,
+                        repository -> repository.sumReservedByAssetName("TRY").doubleValue())
+                .description("TRY held back by pending buy orders")
+                .tag("asset", "TRY")
+                .register(registry);
+    }
+}
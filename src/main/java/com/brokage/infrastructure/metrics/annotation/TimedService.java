@@ -0,0 +1,12 @@
+package com.brokage.infrastructure.metrics.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Times every public method of the annotated service, see ServiceMetricsAspect
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimedService {
+}
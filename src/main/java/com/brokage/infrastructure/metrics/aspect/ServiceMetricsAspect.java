@@ -0,0 +1,80 @@
+package com.brokage.infrastructure.metrics.aspect;
+
+import com.brokage.infrastructure.metrics.OperationTags;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Outermost advice, so a call is timed once including its optimistic lock retries and its commit
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    public static final String CALLS = "brokage.service.calls";
+    public static final String REJECTIONS = "brokage.service.rejections";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(com.brokage.infrastructure.metrics.annotation.TimedService) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        OperationTags.Scope scope = OperationTags.open();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            outcome = "rejected";
+            Counter.builder(REJECTIONS)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("reason", reason(ex))
+                    .register(meterRegistry)
+                    .increment();
+            throw ex;
+        } catch (ConcurrencyFailureException ex) {
+            outcome = "conflict";
+            throw ex;
+        } catch (Throwable ex) {
+            outcome = "error";
+            throw ex;
+        } finally {
+            OperationTags.close(scope);
+            sample.stop(Timer.builder(CALLS)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("side", scope.getSide())
+                    .tag("symbol.type", scope.getSymbolType())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(100_000))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry));
+        }
+    }
+
+    // Messages carry their variable part after a colon, e.g. "Unknown asset symbol id: 7", which would explode the tag
+    static String reason(RuntimeException ex) {
+        String message = ex.getMessage();
+        if (message == null || message.isBlank()) {
+            return ex.getClass().getSimpleName();
+        }
+        int colon = message.indexOf(':');
+        return colon < 0 ? message : message.substring(0, colon);
+    }
+}
@@ -0,0 +1,57 @@
+package com.brokage.infrastructure.outbox;
+
+import com.brokage.application.service.outbox.OutboxSink;
+import com.brokage.domain.entity.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends relayed events to a newline-delimited JSON file, one event per line. Each batch is written with
+ * a single write and forced to disk before the relay deletes it from the outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+
+    public FileOutboxSink(@Value("${app.outbox.file.path:outbox-events.ndjson}") String path) {
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder(events.size() * 512);
+        for (OutboxEvent event : events) {
+            // The payload is already JSON, so the envelope is written around it instead of re-serializing it
+            lines.append("{\"id\":").append(event.getId())
+                    .append(",\"eventType\":\"").append(event.getEventType().name())
+                    .append("\",\"orderId\":").append(event.getOrderId())
+                    .append(",\"payload\":").append(event.getPayload())
+                    .append("}\n");
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.brokage.infrastructure.repository;
 
 import com.brokage.domain.entity.Asset;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +20,29 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
 
     List<Asset> findByCustomerId(Long customerId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
     @Query("SELECT a FROM Asset a WHERE a.customerId = :customerId AND a.assetSymbol.symbol = :assetName")
     Optional<Asset> findByCustomerIdAndAssetNameForUpdate(@Param("customerId") Long customerId,
                                                           @Param("assetName") String assetName);
+
+    @Query("SELECT a FROM Asset a WHERE a.customerId = :customerId AND a.assetSymbol.symbol = :assetName")
+    Optional<Asset> findByCustomerIdAndAssetName(@Param("customerId") Long customerId,
+                                                 @Param("assetName") String assetName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("SELECT a FROM Asset a WHERE a.customerId IN :customerIds AND a.assetSymbol.symbol = :assetName")
+    List<Asset> findByCustomerIdsAndAssetNameForUpdate(@Param("customerIds") Collection<Long> customerIds,
+                                                       @Param("assetName") String assetName);
+
+    @Query("SELECT a FROM Asset a WHERE a.customerId IN :customerIds AND a.assetSymbol.symbol = :assetName")
+    List<Asset> findByCustomerIdsAndAssetName(@Param("customerIds") Collection<Long> customerIds,
+                                              @Param("assetName") String assetName);
+
+    @Query("SELECT DISTINCT a.assetSymbol.symbol FROM Asset a")
+    List<String> findDistinctAssetNames();
+
+    @Query("SELECT COALESCE(SUM(a.size.value - a.usableSize.value), 0) FROM Asset a WHERE a.assetSymbol.symbol = :assetName")
+    BigDecimal sumReservedByAssetName(@Param("assetName") String assetName);
 }
@@ -1,27 +1,75 @@
 package com.brokage.infrastructure.repository;
 
 import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
 import com.brokage.domain.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     
-    List<Order> findByCustomerId(Long customerId);
-    
+    // Keyset page: orders strictly after the cursor in (createdDate DESC, id DESC) order
     @Query("SELECT o FROM Order o WHERE o.customerId = :customerId " +
-           "AND o.createdDate >= :startDate AND o.createdDate <= :endDate " +
-           "ORDER BY o.createdDate DESC")
-    List<Order> findByCustomerIdAndDateRange(@Param("customerId") Long customerId,
-                                           @Param("startDate") LocalDateTime startDate,
-                                           @Param("endDate") LocalDateTime endDate);
-
-    @Query("SELECT o FROM Order o WHERE o.status = :status ORDER BY o.createdDate ASC")
-    List<Order> findByStatusOrderByCreatedDate(@Param("status") OrderStatus status);
+           "AND o.createdDate >= :startDate AND o.createdDate <= :cursorDate " +
+           "AND (o.createdDate < :cursorDate OR o.id < :cursorId) " +
+           "ORDER BY o.createdDate DESC, o.id DESC")
+    List<Order> findPageByCustomerId(@Param("customerId") Long customerId,
+                                     @Param("startDate") LocalDateTime startDate,
+                                     @Param("cursorDate") LocalDateTime cursorDate,
+                                     @Param("cursorId") Long cursorId,
+                                     Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT o FROM Order o WHERE o.customerId = :customerId ORDER BY o.createdDate ASC, o.id ASC")
+    Stream<Order> streamByCustomerId(@Param("customerId") Long customerId);
+
+    // Keyset page in (createdDate ASC, id ASC) order on the status index; null filters match everything
+    @Query("SELECT o FROM Order o WHERE o.status = :status " +
+           "AND o.createdDate >= :cursorDate AND o.createdDate <= :endDate " +
+           "AND (o.createdDate > :cursorDate OR o.id > :cursorId) " +
+           "AND (:assetName IS NULL OR o.assetSymbol.symbol = :assetName) " +
+           "AND (:orderSide IS NULL OR o.orderSide = :orderSide) " +
+           "AND (:customerId IS NULL OR o.customerId = :customerId) " +
+           "ORDER BY o.createdDate ASC, o.id ASC")
+    List<Order> findPageByStatus(@Param("status") OrderStatus status,
+                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                 @Param("cursorId") Long cursorId,
+                                 @Param("endDate") LocalDateTime endDate,
+                                 @Param("assetName") String assetName,
+                                 @Param("orderSide") OrderSide orderSide,
+                                 @Param("customerId") Long customerId,
+                                 Limit limit);
+
+    @Query("SELECT o FROM Order o WHERE o.assetSymbol.symbol = :assetName AND o.status = :status " +
+           "ORDER BY o.createdDate ASC, o.id ASC")
+    List<Order> findByAssetNameAndStatus(@Param("assetName") String assetName,
+                                         @Param("status") OrderStatus status);
+
+    @Query("SELECT o.assetSymbol.symbol FROM Order o WHERE o.id = :orderId")
+    Optional<String> findAssetNameById(@Param("orderId") Long orderId);
+
+    @Query("SELECT DISTINCT o.assetSymbol.symbol FROM Order o WHERE o.id IN :orderIds")
+    List<String> findAssetNamesByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    long countByStatus(OrderStatus status);
 }
@@ -0,0 +1,71 @@
+package com.brokage.infrastructure.retry.aspect;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs outside the transaction interceptor so that every attempt gets a fresh transaction
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class OptimisticLockRetryAspect {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public OptimisticLockRetryAspect(@Value("${app.asset.optimistic-retry.max-attempts:5}") int maxAttempts,
+                                     @Value("${app.asset.optimistic-retry.backoff-ms:2}") long backoffMillis) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    @Around("@annotation(com.brokage.infrastructure.retry.annotation.RetryOnOptimisticLock)")
+    public Object retryOnOptimisticLock(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Inside an outer transaction the conflict has to roll back the caller, not just this call
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException ex) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw ex;
+                }
+                log.debug("Optimistic lock conflict in {}, attempt {} of {}",
+                        joinPoint.getSignature().toShortString(), attempt, maxAttempts);
+                backoff(attempt);
+            }
+        }
+    }
+
+    public long getConflictCount() {
+        return conflicts.sum();
+    }
+
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        if (backoffMillis > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt + 1));
+        }
+    }
+}
@@ -25,7 +25,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
     
     @Transactional
-    public UserDetails loadUserById(Long id) {
+    public UserPrincipal loadUserById(Long id) {
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
         
@@ -1,7 +1,12 @@
 package com.brokage.infrastructure.security;
 
+import com.brokage.domain.enums.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,48 +14,120 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
+    static final String USERNAME_CLAIM = "username";
+    static final String ROLE_CLAIM = "role";
+
     private final SecretKey key;
     private final int jwtExpirationInMs;
+    private final boolean embedPrincipalClaims;
+    private final JwtParser parser;
+    // Keyed by the SHA-256 of the token so raw tokens are never retained
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(@Value("${app.jwt.secret:defaultSecretKeyThatShouldBeChangedInProduction123456789}") String jwtSecret,
-                            @Value("${app.jwt.expiration:86400000}") int jwtExpirationInMs) {
+                            @Value("${app.jwt.expiration:86400000}") int jwtExpirationInMs,
+                            @Value("${app.jwt.embed-principal-claims:false}") boolean embedPrincipalClaims,
+                            @Value("${app.jwt.verified-cache.enabled:true}") boolean verifiedCacheEnabled,
+                            @Value("${app.jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                            @Value("${app.jwt.verified-cache.ttl-seconds:300}") long verifiedCacheTtlSeconds) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         this.jwtExpirationInMs = jwtExpirationInMs;
+        this.embedPrincipalClaims = embedPrincipalClaims;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = verifiedCacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheMaxSize)
+                        .expireAfterWrite(Duration.ofSeconds(verifiedCacheTtlSeconds))
+                        .build()
+                : null;
     }
 
     public String generateToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(Long.toString(userPrincipal.getId()))
                 .issuedAt(new Date())
-                .expiration(expiryDate)
-                .signWith(key)
-                .compact();
+                .expiration(expiryDate);
+        if (embedPrincipalClaims) {
+            builder.claim(USERNAME_CLAIM, userPrincipal.getUsername())
+                    .claim(ROLE_CLAIM, userPrincipal.getRole().name());
+        }
+        return builder.signWith(key).compact();
     }
 
-    public Long getUserIdFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Checks signature and expiry once and returns what the rest of the request needs. Tokens seen
+     * recently are answered from the cache until they expire, without repeating the HMAC check.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
 
-        return Long.parseLong(claims.getSubject());
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(cacheKey);
+            return Optional.empty();
+        }
+
+        Optional<VerifiedToken> verified = parse(token);
+        verified.ifPresent(value -> verifiedTokens.put(cacheKey, value));
+        return verified;
+    }
+
+    public Long getUserIdFromJWT(String token) {
+        return verify(token)
+                .map(VerifiedToken::getUserId)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
     }
 
     public boolean validateToken(String authToken) {
+        return verify(authToken).isPresent();
+    }
+
+    private Optional<VerifiedToken> parse(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(authToken);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Long userId = Long.parseLong(claims.getSubject());
+            long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+            return Optional.of(new VerifiedToken(userId, expiresAt, principalFromClaims(userId, claims)));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    private UserPrincipal principalFromClaims(Long userId, Claims claims) {
+        String username = claims.get(USERNAME_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (username == null || role == null) {
+            return null;
+        }
+        return new UserPrincipal(userId, username, null, Role.valueOf(role));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 }
@@ -0,0 +1,65 @@
+package com.brokage.infrastructure.security;
+
+import com.brokage.infrastructure.concurrent.CallerLoadingCache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of the principals rebuilt for authenticated requests, so that a valid
+ * token does not cost a customer lookup on every request. Cached principals carry no password.
+ */
+@Component
+public class PrincipalCache {
+
+    private final boolean enabled;
+    private final AsyncCache<Long, UserPrincipal> cache;
+
+    public PrincipalCache(@Value("${app.security.principal-cache.enabled:true}") boolean enabled,
+                          @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${app.security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return CallerLoadingCache.get(cache, userId, id -> withoutPassword(loader.apply(id)));
+    }
+
+    // Also evicts after the surrounding transaction so a concurrent reload cannot cache the old row
+    public void evict(Long userId) {
+        cache.synchronous().invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.synchronous().invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private static UserPrincipal withoutPassword(UserPrincipal principal) {
+        return new UserPrincipal(principal.getId(), principal.getUsername(), null, principal.getRole());
+    }
+}
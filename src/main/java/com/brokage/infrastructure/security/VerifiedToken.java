@@ -0,0 +1,17 @@
+package com.brokage.infrastructure.security;
+
+import lombok.Value;
+
+// Outcome of verifying a token's signature and expiry once
+@Value
+public class VerifiedToken {
+
+    Long userId;
+    long expiresAtMillis;
+    // Built from username and role claims, null when the token carries only the subject
+    UserPrincipal principal;
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -5,13 +5,19 @@ import com.brokage.domain.valueobject.UsableSize;
 import com.brokage.infrastructure.repository.AssetRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,4 +49,20 @@ class AssetInitializationServiceTest {
 
         verify(assetRepository).save(any(Asset.class));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void initializeCustomersWithTRY_SavesAllInOneCall() {
+        Map<Long, BigDecimal> initialAmounts = new LinkedHashMap<>();
+        initialAmounts.put(1L, new BigDecimal("100000"));
+        initialAmounts.put(2L, new BigDecimal("50000"));
+        ArgumentCaptor<List<Asset>> captor = ArgumentCaptor.forClass(List.class);
+
+        assetInitializationService.initializeCustomersWithTRY(initialAmounts);
+
+        verify(assetRepository).saveAll(captor.capture());
+        verify(assetRepository, never()).save(any(Asset.class));
+        assertEquals(List.of(1L, 2L), captor.getValue().stream().map(Asset::getCustomerId).toList());
+        assertEquals(0, new BigDecimal("50000").compareTo(captor.getValue().get(1).getUsableSize().getValue()));
+    }
 }
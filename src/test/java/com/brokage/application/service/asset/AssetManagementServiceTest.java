@@ -8,15 +8,20 @@ import com.brokage.infrastructure.repository.AssetRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,13 +30,16 @@ class AssetManagementServiceTest {
     @Mock
     private AssetRepository assetRepository;
 
-    @InjectMocks
+    @Mock
+    private BalanceLockManager balanceLockManager;
+
     private AssetManagementService assetManagementService;
 
     private Asset tryAsset;
 
     @BeforeEach
     void setUp() {
+        assetManagementService = new AssetManagementService(assetRepository, balanceLockManager, AssetLockMode.PESSIMISTIC);
         tryAsset = new Asset();
         tryAsset.setId(1L);
         tryAsset.setCustomerId(1L);
@@ -78,6 +86,7 @@ class AssetManagementServiceTest {
 
         assertEquals(tryAsset, result);
         verify(assetRepository).findByCustomerIdAndAssetNameForUpdate(1L, "TRY");
+        verify(balanceLockManager).lock(1L, "TRY");
     }
 
     @Test
@@ -88,4 +97,48 @@ class AssetManagementServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> assetManagementService.getAssetForUpdate(1L, "NONEXISTENT"));
     }
+
+    @Test
+    void getAssetForUpdate_OptimisticMode_ReadsWithoutRowLock() {
+        assetManagementService = new AssetManagementService(assetRepository, balanceLockManager, AssetLockMode.OPTIMISTIC);
+        when(assetRepository.findByCustomerIdAndAssetName(1L, "TRY")).thenReturn(Optional.of(tryAsset));
+
+        Asset result = assetManagementService.getAssetForUpdate(1L, "TRY");
+
+        assertEquals(tryAsset, result);
+        verify(assetRepository, never()).findByCustomerIdAndAssetNameForUpdate(any(), any());
+    }
+
+    @Test
+    void getOrCreateAssetsForUpdate_LoadsInOneQueryAndCreatesMissing() {
+        when(assetRepository.findByCustomerIdsAndAssetNameForUpdate(List.of(1L, 2L), "TRY")).thenReturn(List.of(tryAsset));
+        when(assetRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Map<AssetKey, Asset> result = assetManagementService.getOrCreateAssetsForUpdate(List.of(
+                AssetKey.of(2L, "TRY"), AssetKey.of(1L, "TRY"), AssetKey.of(1L, "TRY")));
+
+        assertEquals(Set.of(AssetKey.of(1L, "TRY"), AssetKey.of(2L, "TRY")), result.keySet());
+        assertSame(tryAsset, result.get(AssetKey.of(1L, "TRY")));
+        assertEquals(0, BigDecimal.ZERO.compareTo(result.get(AssetKey.of(2L, "TRY")).getSize().getValue()));
+        verify(assetRepository, times(1)).findByCustomerIdsAndAssetNameForUpdate(anyCollection(), any());
+        InOrder inOrder = inOrder(balanceLockManager);
+        inOrder.verify(balanceLockManager).lock(1L, "TRY");
+        inOrder.verify(balanceLockManager).lock(2L, "TRY");
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void getOrCreateAssetsForUpdate_SeveralAssetNames_LocksOnlyRequestedKeys() {
+        when(assetRepository.findByCustomerIdsAndAssetNameForUpdate(anyCollection(), any())).thenReturn(List.of());
+        when(assetRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Map<AssetKey, Asset> result = assetManagementService.getOrCreateAssetsForUpdate(List.of(
+                AssetKey.of(1L, "TRY"), AssetKey.of(2L, "AAPL"), AssetKey.of(3L, "TRY")));
+
+        assertEquals(3, result.size());
+        verify(assetRepository).findByCustomerIdsAndAssetNameForUpdate(List.of(2L), "AAPL");
+        verify(assetRepository).findByCustomerIdsAndAssetNameForUpdate(List.of(1L, 3L), "TRY");
+        verify(assetRepository).saveAll(anyList());
+        verifyNoMoreInteractions(assetRepository);
+    }
 }
@@ -0,0 +1,137 @@
+package com.brokage.application.service.asset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceLockManagerTest {
+
+    private BalanceLockManager balanceLockManager;
+
+    @BeforeEach
+    void setUp() {
+        balanceLockManager = new BalanceLockManager(true, 200, 100);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        completeTransaction();
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void lock_WithoutTransaction_ThrowsException() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThrows(IllegalStateException.class, () -> balanceLockManager.lock(1L, "TRY"));
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @Test
+    void lock_SameBalanceTwiceInTransaction_IsReentrant() {
+        balanceLockManager.lock(1L, "TRY");
+        balanceLockManager.lock(1L, "TRY");
+
+        assertEquals(1, balanceLockManager.getActiveLockCount());
+        completeTransaction();
+        assertEquals(0, balanceLockManager.getActiveLockCount());
+        assertEquals(1, balanceLockManager.getStats().get(0).getAcquisitions());
+    }
+
+    @Test
+    void lock_HeldByOtherTransaction_TimesOut() throws Exception {
+        balanceLockManager.lock(1L, "TRY");
+
+        CompletableFuture<Throwable> other = CompletableFuture.supplyAsync(() -> inTransaction(() -> balanceLockManager.lock(1L, "TRY")));
+
+        assertInstanceOf(CannotAcquireLockException.class, other.get(5, TimeUnit.SECONDS));
+        assertEquals(1, balanceLockManager.getStats().get(0).getTimeouts());
+    }
+
+    @Test
+    void lock_DifferentCustomers_DoNotBlock() throws Exception {
+        balanceLockManager.lock(1L, "TRY");
+
+        CompletableFuture<Throwable> other = CompletableFuture.supplyAsync(() -> inTransaction(() -> balanceLockManager.lock(2L, "TRY")));
+
+        assertNull(other.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void lock_ReleasedOnCompletion_LetsWaiterProceed() throws Exception {
+        balanceLockManager = new BalanceLockManager(true, 5_000, 100);
+        balanceLockManager.lock(1L, "TRY");
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        CompletableFuture<Throwable> other = CompletableFuture.supplyAsync(() -> inTransaction(() -> {
+            waiting.countDown();
+            balanceLockManager.lock(1L, "TRY");
+        }));
+        assertTrue(waiting.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        completeTransaction();
+
+        assertNull(other.get(5, TimeUnit.SECONDS));
+        BalanceLockStats stats = balanceLockManager.getStats().get(0);
+        assertEquals(2, stats.getAcquisitions());
+        assertTrue(stats.getMaxWaitMillis() > 0);
+        assertTrue(stats.getMaxHoldMillis() > 0);
+    }
+
+    @Test
+    void lock_ManyCustomers_KeepsStatsBounded() {
+        for (long customerId = 1; customerId <= 1_000; customerId++) {
+            balanceLockManager.lock(customerId, "TRY");
+        }
+        completeTransaction();
+
+        assertTrue(balanceLockManager.getStats().size() <= 100);
+        assertEquals(0, balanceLockManager.getActiveLockCount());
+    }
+
+    @Test
+    void lock_Disabled_DoesNothing() {
+        TransactionSynchronizationManager.clearSynchronization();
+        BalanceLockManager disabled = new BalanceLockManager(false, 200, 100);
+
+        assertDoesNotThrow(() -> disabled.lock(1L, "TRY"));
+        assertEquals(0, disabled.getActiveLockCount());
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private Throwable inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return null;
+        } catch (RuntimeException ex) {
+            return ex;
+        } finally {
+            completeTransaction();
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void completeTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -1,5 +1,7 @@
 package com.brokage.application.service.asset;
 
+import com.brokage.application.dto.response.AssetResponse;
+import com.brokage.application.mapper.AssetMapper;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.valueobject.AssetSymbol;
 import com.brokage.domain.valueobject.Quantity;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -25,6 +28,12 @@ class FetchAssetServiceTest {
     @Mock
     private AssetRepository assetRepository;
 
+    @Mock
+    private AssetMapper assetMapper;
+
+    @Spy
+    private PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+
     @InjectMocks
     private FetchAssetService fetchAssetService;
 
@@ -59,4 +68,20 @@ class FetchAssetServiceTest {
         assertEquals(expectedAssets, result);
         verify(assetRepository).findByCustomerId(1L);
     }
+
+    @Test
+    void getCustomerPortfolio_RepeatedReads_LoadsOnce() {
+        List<Asset> assets = List.of(tryAsset, stockAsset);
+        List<AssetResponse> responses = List.of(new AssetResponse(), new AssetResponse());
+        when(assetRepository.findByCustomerId(1L)).thenReturn(assets);
+        when(assetMapper.toResponseList(assets)).thenReturn(responses);
+
+        List<AssetResponse> first = fetchAssetService.getCustomerPortfolio(1L);
+        List<AssetResponse> second = fetchAssetService.getCustomerPortfolio(1L);
+
+        assertEquals(responses, first);
+        assertEquals(first, second);
+        verify(assetRepository, times(1)).findByCustomerId(1L);
+        assertEquals(1, portfolioCache.getStats().getHitCount());
+    }
 }
@@ -0,0 +1,78 @@
+package com.brokage.application.service.asset;
+
+import com.brokage.application.dto.response.AssetResponse;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.domain.valueobject.UsableSize;
+import com.brokage.infrastructure.config.JpaConfig;
+import com.brokage.infrastructure.repository.AssetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, PortfolioCache.class, PortfolioCacheEvictionListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PortfolioCacheEvictionListenerTest {
+
+    private static final Long CUSTOMER_ID = 7_001L;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private PortfolioCache portfolioCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void assetWrites_Committed_EvictPortfolio() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger loads = new AtomicInteger();
+        Asset asset = transaction.execute(status -> assetRepository.save(asset()));
+        portfolioCache.get(CUSTOMER_ID, id -> load(id, loads));
+        portfolioCache.get(CUSTOMER_ID, id -> load(id, loads));
+        assertEquals(1, loads.get());
+
+        transaction.executeWithoutResult(status ->
+                assetRepository.findById(asset.getId()).orElseThrow().reserveAmount(BigDecimal.TEN));
+        List<AssetResponse> portfolio = portfolioCache.get(CUSTOMER_ID, id -> load(id, loads));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, new BigDecimal("90").compareTo(portfolio.get(0).getUsableSize()));
+    }
+
+    private List<AssetResponse> load(Long customerId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return assetRepository.findByCustomerId(customerId).stream().map(asset -> {
+            AssetResponse response = new AssetResponse();
+            response.setCustomerId(asset.getCustomerId());
+            response.setUsableSize(asset.getUsableSize().getValue());
+            return response;
+        }).toList();
+    }
+
+    private static Asset asset() {
+        Asset asset = new Asset();
+        asset.setCustomerId(CUSTOMER_ID);
+        asset.setAssetSymbol(AssetSymbol.of("TRY"));
+        asset.setSize(Quantity.of(new BigDecimal("100")));
+        asset.setUsableSize(UsableSize.of(new BigDecimal("100")));
+        return asset;
+    }
+}
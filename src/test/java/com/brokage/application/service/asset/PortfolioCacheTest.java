@@ -0,0 +1,150 @@
+package com.brokage.application.service.asset;
+
+import com.brokage.application.dto.response.AssetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PortfolioCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, List<AssetResponse>> loader = customerId -> {
+        loads.incrementAndGet();
+        return List.of(response(customerId));
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void bindTo_Registry_ExposesCacheMetrics() {
+        PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        portfolioCache.bindTo(registry);
+
+        portfolioCache.get(1L, loader);
+        portfolioCache.get(1L, loader);
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "portfolio", "result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "portfolio", "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_RepeatedReads_LoadsOnceAndCountsHits() {
+        PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+
+        portfolioCache.get(1L, loader);
+        List<AssetResponse> cached = portfolioCache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, cached.get(0).getCustomerId());
+        PortfolioCacheStats stats = portfolioCache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void evict_InTransaction_EvictsAfterCompletion() {
+        PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+        portfolioCache.get(1L, loader);
+        portfolioCache.get(2L, loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        portfolioCache.evict(1L);
+        portfolioCache.evict(1L);
+        portfolioCache.get(1L, loader);
+        assertEquals(2, loads.get());
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        portfolioCache.get(1L, loader);
+        portfolioCache.get(2L, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evict_WithoutTransaction_EvictsImmediately() {
+        PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+        portfolioCache.get(1L, loader);
+
+        portfolioCache.evict(1L);
+        portfolioCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_EvictedWhileLoading_DiscardsLoadedPortfolio() {
+        PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+
+        portfolioCache.get(1L, customerId -> {
+            portfolioCache.evict(customerId);
+            return loader.apply(customerId);
+        });
+        portfolioCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_LoaderFails_RethrowsAndLoadsAgain() {
+        PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+
+        assertThrows(IllegalStateException.class, () -> portfolioCache.get(1L, customerId -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        portfolioCache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_LoaderThrowsError_RethrowsAndLoadsAgain() {
+        PortfolioCache portfolioCache = new PortfolioCache(true, 100, 60);
+
+        assertThrows(StackOverflowError.class, () -> portfolioCache.get(1L, customerId -> {
+            throw new StackOverflowError();
+        }));
+        portfolioCache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_Disabled_AlwaysLoads() {
+        PortfolioCache portfolioCache = new PortfolioCache(false, 100, 60);
+
+        portfolioCache.get(1L, loader);
+        portfolioCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+        assertFalse(portfolioCache.getStats().isEnabled());
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static AssetResponse response(Long customerId) {
+        AssetResponse response = new AssetResponse();
+        response.setCustomerId(customerId);
+        response.setAssetName("TRY");
+        return response;
+    }
+}
@@ -0,0 +1,119 @@
+package com.brokage.application.service.journal;
+
+import com.brokage.application.service.matching.BookOrder;
+import com.brokage.application.service.matching.OrderBook;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalCodecTest {
+
+    private final AssetSymbol aapl = AssetSymbol.of("AAPL");
+
+    @Test
+    void apply_CreateAndRemoveRecords_RebuildsLiveBook() throws Exception {
+        OrderBook live = new OrderBook(aapl);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (BookOrder order : List.of(
+                order(1L, OrderSide.SELL, "101", "10"),
+                order(2L, OrderSide.SELL, "100", "5"),
+                order(3L, OrderSide.BUY, "99", "7"),
+                order(4L, OrderSide.BUY, "100.50", "8"),
+                order(5L, OrderSide.BUY, "98", "1.25"))) {
+            JournalCodec.writeCreate(out, aapl, order);
+            live.match(order);
+            if (!order.isFilled()) {
+                live.add(order);
+            }
+        }
+        JournalCodec.writeRemove(out, JournalRecordType.CANCEL, aapl, 3L);
+        live.remove(3L);
+
+        Map<String, OrderBook> books = new HashMap<>();
+        JournalCodec.apply(ByteBuffer.wrap(bytes.toByteArray()), books);
+
+        assertEquals(describe(live), describe(books.get("AAPL")));
+        assertEquals(List.of("4:BUY:100.50:3.00", "5:BUY:98.00:1.25", "1:SELL:101.00:10.00"), describe(books.get("AAPL")));
+    }
+
+    @Test
+    void apply_Reset_ReplacesBookKeepingPriority() throws Exception {
+        OrderBook live = new OrderBook(aapl);
+        live.add(order(1L, OrderSide.BUY, "100", "1"));
+        live.add(order(2L, OrderSide.BUY, "100", "2"));
+        live.add(order(3L, OrderSide.SELL, "105", "3"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        JournalCodec.writeCreate(out, aapl, order(9L, OrderSide.SELL, "110", "1"));
+        JournalCodec.writeReset(out, live);
+
+        Map<String, OrderBook> books = new HashMap<>();
+        JournalCodec.apply(ByteBuffer.wrap(bytes.toByteArray()), books);
+
+        assertEquals(describe(live), describe(books.get("AAPL")));
+        assertFalse(books.get("AAPL").contains(9L));
+    }
+
+    @Test
+    void apply_MarketRecord_MatchesWithoutResting() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        JournalCodec.writeCreate(out, aapl, order(1L, OrderSide.SELL, "100", "2"));
+        JournalCodec.writeCreate(out, aapl, order(2L, OrderSide.SELL, "120", "1"));
+        JournalCodec.writeMarket(out, aapl, order(3L, OrderSide.BUY, "105", "5"));
+
+        Map<String, OrderBook> books = new HashMap<>();
+        JournalCodec.apply(ByteBuffer.wrap(bytes.toByteArray()), books);
+
+        assertEquals(List.of("2:SELL:120.00:1.00"), describe(books.get("AAPL")));
+    }
+
+    @Test
+    void readFrames_CorruptFrame_StopsBeforeIt() {
+        ByteBuffer first = JournalCodec.frame(new byte[]{1, 2, 3});
+        ByteBuffer second = JournalCodec.frame(new byte[]{4, 5});
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put(first).put(second).flip();
+        buffer.put(first.limit() + JournalCodec.FRAME_HEADER_BYTES, (byte) 9);
+        buffer.limit(64);
+
+        List<ByteBuffer> payloads = new ArrayList<>();
+        int end = JournalCodec.readFrames(buffer, payloads::add);
+
+        assertEquals(1, payloads.size());
+        assertEquals(3, payloads.get(0).remaining());
+        assertEquals(first.limit(), end);
+    }
+
+    @Test
+    void writeRemove_CreateType_ThrowsException() {
+        DataOutputStream out = new DataOutputStream(new ByteArrayOutputStream());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> JournalCodec.writeRemove(out, JournalRecordType.CREATE, aapl, 1L));
+    }
+
+    static List<String> describe(OrderBook book) {
+        return book.orders().stream()
+                .map(order -> order.getOrderId() + ":" + order.getSide() + ":" + order.getPrice().getAmount()
+                        + ":" + order.getRemaining().getValue())
+                .toList();
+    }
+
+    static BookOrder order(Long orderId, OrderSide side, String price, String size) {
+        return new BookOrder(orderId, 1L, side, Money.of(price), Quantity.of(size));
+    }
+}
@@ -0,0 +1,166 @@
+package com.brokage.application.service.journal;
+
+import com.brokage.application.service.matching.OrderBook;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.brokage.application.service.journal.JournalCodecTest.describe;
+import static com.brokage.application.service.journal.JournalCodecTest.order;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalLogTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    private final AssetSymbol aapl = AssetSymbol.of("AAPL");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void open_AfterAppends_ReplaysFramesAcrossSegments() throws Exception {
+        JournalLog journalLog = new JournalLog(directory, SEGMENT_SIZE, true, 100);
+        journalLog.open();
+        long position = 0;
+        for (long orderId = 1; orderId <= 10; orderId++) {
+            position = journalLog.append(create(orderId, orderId % 2 == 0 ? OrderSide.BUY : OrderSide.SELL,
+                    orderId % 2 == 0 ? "90" : "110"));
+        }
+        journalLog.append(cancel(4L));
+        journalLog.awaitDurable(position);
+        journalLog.close();
+
+        JournalLog reopened = new JournalLog(directory, SEGMENT_SIZE, true, 100);
+        Map<String, OrderBook> books = reopened.open();
+        reopened.close();
+
+        assertTrue(segmentCount() > 1);
+        assertEquals(9, books.get("AAPL").size());
+        assertFalse(books.get("AAPL").contains(4L));
+    }
+
+    @Test
+    void open_TornTail_KeepsValidFramesAndAppendsAfterThem() throws Exception {
+        JournalLog journalLog = new JournalLog(directory, SEGMENT_SIZE, false, 100);
+        journalLog.open();
+        long end = journalLog.append(create(1L, OrderSide.BUY, "100"));
+        journalLog.close();
+        // A crash while the next frame was being copied leaves its header and part of its payload
+        try (FileChannel channel = FileChannel.open(directory.resolve(JournalSegment.fileName(0)), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3, 4, 5, 6}), end);
+        }
+
+        JournalLog recovered = new JournalLog(directory, SEGMENT_SIZE, false, 100);
+        assertEquals(1, recovered.open().get("AAPL").size());
+        assertEquals(end + JournalCodec.FRAME_HEADER_BYTES + create(2L, OrderSide.BUY, "99").length,
+                recovered.append(create(2L, OrderSide.BUY, "99")));
+        recovered.close();
+
+        JournalLog reopened = new JournalLog(directory, SEGMENT_SIZE, false, 100);
+        assertEquals(2, reopened.open().get("AAPL").size());
+        reopened.close();
+    }
+
+    @Test
+    void snapshot_ClosedSegments_AreFoldedAndDeleted() throws Exception {
+        JournalLog journalLog = new JournalLog(directory, SEGMENT_SIZE, false, 100);
+        journalLog.open();
+        for (long orderId = 1; orderId <= 12; orderId++) {
+            journalLog.append(create(orderId, OrderSide.BUY, String.valueOf(80 + orderId)));
+        }
+        journalLog.append(cancel(3L));
+        long boundary = journalLog.append(create(13L, OrderSide.SELL, "85"));
+        journalLog.append(create(14L, OrderSide.SELL, "120"));
+        journalLog.close();
+
+        JournalLog reopened = new JournalLog(directory, SEGMENT_SIZE, false, 100);
+        Map<String, OrderBook> beforeSnapshot = reopened.open();
+        long segmentsBefore = segmentCount();
+        reopened.snapshot(lastSegmentBase());
+        reopened.close();
+
+        JournalLog afterSnapshot = new JournalLog(directory, SEGMENT_SIZE, false, 100);
+        Map<String, OrderBook> books = afterSnapshot.open();
+        afterSnapshot.close();
+
+        assertTrue(boundary > SEGMENT_SIZE);
+        assertTrue(segmentsBefore > 1);
+        assertEquals(1, segmentCount());
+        assertEquals(1, snapshotCount());
+        assertEquals(describe(beforeSnapshot.get("AAPL")), describe(books.get("AAPL")));
+        assertFalse(books.get("AAPL").contains(3L));
+        assertFalse(books.get("AAPL").contains(12L));
+        assertTrue(books.get("AAPL").contains(14L));
+    }
+
+    @Test
+    void append_SnapshotIntervalReached_WritesSnapshotInBackground() throws Exception {
+        JournalLog journalLog = new JournalLog(directory, SEGMENT_SIZE, true, 2);
+        journalLog.open();
+        for (long orderId = 1; orderId <= 12; orderId++) {
+            journalLog.append(create(orderId, OrderSide.SELL, "100"));
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (snapshotCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        journalLog.close();
+
+        assertEquals(1, snapshotCount());
+        JournalLog reopened = new JournalLog(directory, SEGMENT_SIZE, true, 2);
+        assertEquals(12, reopened.open().get("AAPL").size());
+        reopened.close();
+    }
+
+    @Test
+    void append_FrameLargerThanSegment_ThrowsException() throws Exception {
+        JournalLog journalLog = new JournalLog(directory, SEGMENT_SIZE, false, 100);
+        journalLog.open();
+
+        assertThrows(IllegalArgumentException.class, () -> journalLog.append(new byte[SEGMENT_SIZE]));
+        journalLog.close();
+    }
+
+    private byte[] create(Long orderId, OrderSide side, String price) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JournalCodec.writeCreate(new DataOutputStream(bytes), aapl, order(orderId, side, price, "1"));
+        return bytes.toByteArray();
+    }
+
+    private byte[] cancel(Long orderId) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JournalCodec.writeRemove(new DataOutputStream(bytes), JournalRecordType.CANCEL, aapl, orderId);
+        return bytes.toByteArray();
+    }
+
+    private long lastSegmentBase() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalSegment::isSegment).mapToLong(JournalSegment::basePosition).max().orElseThrow();
+        }
+    }
+
+    private long segmentCount() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalSegment::isSegment).count();
+        }
+    }
+
+    private long snapshotCount() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(JournalLog.SNAPSHOT_SUFFIX)).count();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.brokage.application.service.journal;
+
+import com.brokage.application.service.matching.OrderBook;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.brokage.application.service.journal.JournalCodecTest.order;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderJournalTest {
+
+    private final AssetSymbol aapl = AssetSymbol.of("AAPL");
+
+    @TempDir
+    private Path directory;
+
+    private OrderJournal orderJournal;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orderJournal = journal(true);
+        orderJournal.recover();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TransactionSynchronizationManager.clearSynchronization();
+        orderJournal.stop();
+    }
+
+    @Test
+    void recover_CommittedTransactions_RestoresBooks() throws Exception {
+        OrderBook book = new OrderBook(aapl);
+        book.add(order(1L, OrderSide.BUY, "100", "5"));
+        orderJournal.recordReset(book);
+        orderJournal.recordCreate(aapl, order(2L, OrderSide.SELL, "101", "3"));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        orderJournal.recordCreate(aapl, order(3L, OrderSide.SELL, "102", "1"));
+        orderJournal.recordRemove(canceled(2L));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        OrderJournal restarted = restart();
+        OrderBook recovered = restarted.takeRecoveredBook(aapl).orElseThrow();
+        restarted.stop();
+
+        assertEquals(List.of("1:BUY:100.00:5.00", "3:SELL:102.00:1.00"), JournalCodecTest.describe(recovered));
+    }
+
+    @Test
+    void recover_RolledBackTransaction_IsNotJournaled() throws Exception {
+        orderJournal.recordCreate(aapl, order(1L, OrderSide.BUY, "100", "5"));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        OrderJournal restarted = restart();
+
+        assertTrue(restarted.takeRecoveredBook(aapl).isEmpty());
+        restarted.stop();
+    }
+
+    @Test
+    void takeRecoveredBook_SecondCall_ReturnsEmpty() throws Exception {
+        orderJournal.recordCreate(aapl, order(1L, OrderSide.BUY, "100", "5"));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        OrderJournal restarted = restart();
+
+        assertTrue(restarted.takeRecoveredBook(aapl).isPresent());
+        assertTrue(restarted.takeRecoveredBook(aapl).isEmpty());
+        restarted.stop();
+    }
+
+    @Test
+    void afterCommit_AppendFails_ReportsFailure() throws Exception {
+        orderJournal.recordCreate(aapl, order(1L, OrderSide.BUY, "100", "5"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        orderJournal.stop();
+
+        assertThrows(UncheckedIOException.class, () -> synchronizations.forEach(TransactionSynchronization::afterCommit));
+    }
+
+    @Test
+    void recordCreate_Disabled_WritesNothing() throws Exception {
+        OrderJournal disabled = journal(false);
+        disabled.recover();
+
+        disabled.recordCreate(aapl, order(1L, OrderSide.BUY, "100", "5"));
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        assertFalse(Files.exists(directory.resolve("disabled")));
+    }
+
+    private OrderJournal restart() throws Exception {
+        orderJournal.stop();
+        OrderJournal restarted = journal(true);
+        restarted.recover();
+        return restarted;
+    }
+
+    private OrderJournal journal(boolean enabled) {
+        return new OrderJournal(enabled, directory.resolve(enabled ? "journal" : "disabled").toString(), 1, true, 4);
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private Order canceled(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setAssetSymbol(aapl);
+        order.setStatus(OrderStatus.CANCELED);
+        return order;
+    }
+}
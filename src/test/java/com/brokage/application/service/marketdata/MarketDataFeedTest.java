@@ -0,0 +1,172 @@
+package com.brokage.application.service.marketdata;
+
+import com.brokage.application.mapper.MarketDataMapperImpl;
+import com.brokage.application.service.matching.BookDepth;
+import com.brokage.application.service.matching.BookLevel;
+import com.brokage.application.service.matching.Fill;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MarketDataFeedTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AssetSymbol aapl = AssetSymbol.of("AAPL");
+
+    private MarketDataFeed marketDataFeed;
+
+    @BeforeEach
+    void setUp() {
+        marketDataFeed = new MarketDataFeed(new MarketDataMapperImpl(), objectMapper, 10, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        marketDataFeed.stop();
+    }
+
+    @Test
+    void subscribe_CommittedBook_SendsSnapshot() throws Exception {
+        BlockingQueue<TextMessage> messages = new LinkedBlockingQueue<>();
+        assertTrue(marketDataFeed.watch(aapl));
+        marketDataFeed.onCommit(aapl, depth(level("100", "5")), List.of());
+
+        marketDataFeed.subscribe(session(messages), aapl);
+
+        JsonNode snapshot = next(messages);
+        assertEquals("snapshot", snapshot.get("type").asText());
+        assertEquals("AAPL", snapshot.get("symbol").asText());
+        assertEquals(0, snapshot.get("bestBid").decimalValue().compareTo(Money.of("100").getAmount()));
+        assertEquals(1, snapshot.get("bids").size());
+        assertTrue(snapshot.get("asks").isEmpty());
+    }
+
+    @Test
+    void onCommit_TwoSubscribers_SendsOneSerializedDiff() throws Exception {
+        BlockingQueue<TextMessage> first = new LinkedBlockingQueue<>();
+        BlockingQueue<TextMessage> second = new LinkedBlockingQueue<>();
+        marketDataFeed.watch(aapl);
+        marketDataFeed.onCommit(aapl, depth(level("100", "5"), level("99", "2")), List.of());
+        marketDataFeed.subscribe(session(first), aapl);
+        marketDataFeed.watch(aapl);
+        marketDataFeed.subscribe(session(second), aapl);
+        long snapshotSequence = next(first).get("sequence").asLong();
+        next(second);
+
+        marketDataFeed.onCommit(aapl, depth(level("100", "1")),
+                List.of(new Fill(3L, 1L, Money.of("100"), Quantity.of("2"))));
+
+        TextMessage update = first.poll(5, TimeUnit.SECONDS);
+        assertSame(update, second.poll(5, TimeUnit.SECONDS));
+        JsonNode message = objectMapper.readTree(update.getPayload());
+        assertEquals("update", message.get("type").asText());
+        assertEquals(snapshotSequence + 1, message.get("sequence").asLong());
+        assertEquals(2, message.get("bids").size());
+        assertEquals(0, message.get("bids").get(0).get("quantity").decimalValue().compareTo(Quantity.of("1").getValue()));
+        assertEquals(0, message.get("bids").get(1).get("quantity").decimalValue().signum());
+        assertEquals(1, message.get("trades").size());
+    }
+
+    @Test
+    void subscribe_AlreadySubscribed_SendsErrorAndKeepsSingleWatcher() throws Exception {
+        BlockingQueue<TextMessage> messages = new LinkedBlockingQueue<>();
+        WebSocketSession session = session(messages);
+        marketDataFeed.watch(aapl);
+        marketDataFeed.subscribe(session, aapl);
+        marketDataFeed.watch(aapl);
+        marketDataFeed.subscribe(session, aapl);
+
+        assertEquals("snapshot", next(messages).get("type").asText());
+        assertEquals("error", next(messages).get("type").asText());
+
+        marketDataFeed.unsubscribe(session, aapl);
+        marketDataFeed.sendError(session, "done");
+        next(messages);
+        assertFalse(marketDataFeed.isWatched(aapl));
+    }
+
+    @Test
+    void subscribe_TooManySymbols_SendsError() throws Exception {
+        BlockingQueue<TextMessage> messages = new LinkedBlockingQueue<>();
+        WebSocketSession session = session(messages);
+        for (String symbol : List.of("AAPL", "MSFT", "GOOG")) {
+            marketDataFeed.watch(AssetSymbol.of(symbol));
+            marketDataFeed.subscribe(session, AssetSymbol.of(symbol));
+        }
+
+        assertEquals("snapshot", next(messages).get("type").asText());
+        assertEquals("snapshot", next(messages).get("type").asText());
+        JsonNode error = next(messages);
+        assertEquals("error", error.get("type").asText());
+        assertFalse(marketDataFeed.isWatched(AssetSymbol.of("GOOG")));
+    }
+
+    @Test
+    void unsubscribe_LastWatcher_RemovesSymbolFeed() throws Exception {
+        BlockingQueue<TextMessage> messages = new LinkedBlockingQueue<>();
+        WebSocketSession session = session(messages);
+        marketDataFeed.watch(aapl);
+        marketDataFeed.subscribe(session, aapl);
+        next(messages);
+
+        marketDataFeed.unsubscribe(session, aapl);
+        marketDataFeed.sendError(session, "done");
+        next(messages);
+
+        Map<?, ?> feeds = (Map<?, ?>) ReflectionTestUtils.getField(marketDataFeed, "feeds");
+        assertTrue(feeds.isEmpty());
+        assertTrue(marketDataFeed.watch(aapl));
+    }
+
+    @Test
+    void onCommit_UnwatchedSymbol_IsIgnored() throws Exception {
+        BlockingQueue<TextMessage> messages = new LinkedBlockingQueue<>();
+        marketDataFeed.onCommit(aapl, depth(level("100", "5")), List.of());
+
+        marketDataFeed.watch(aapl);
+        marketDataFeed.subscribe(session(messages), aapl);
+
+        assertTrue(next(messages).get("bids").isEmpty());
+    }
+
+    private JsonNode next(BlockingQueue<TextMessage> messages) throws Exception {
+        TextMessage message = messages.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message);
+        return objectMapper.readTree(message.getPayload());
+    }
+
+    private static WebSocketSession session(BlockingQueue<TextMessage> messages) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        lenient().when(session.isOpen()).thenReturn(true);
+        lenient().doAnswer(invocation -> messages.add(invocation.getArgument(0)))
+                .when(session).sendMessage(any(WebSocketMessage.class));
+        return session;
+    }
+
+    private static BookDepth depth(BookLevel... bids) {
+        return new BookDepth(List.of(bids), List.of());
+    }
+
+    private static BookLevel level(String price, String quantity) {
+        return new BookLevel(Money.of(price), Quantity.of(quantity));
+    }
+}
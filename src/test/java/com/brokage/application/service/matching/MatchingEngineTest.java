@@ -0,0 +1,328 @@
+package com.brokage.application.service.matching;
+
+import com.brokage.application.service.asset.AssetKey;
+import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.journal.OrderJournal;
+import com.brokage.application.service.marketdata.MarketDataFeed;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.application.service.order.OrderStatusStreamService;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.enums.OrderType;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.domain.valueobject.UsableSize;
+import com.brokage.infrastructure.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingEngineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private AssetManagementService assetManagementService;
+
+    @Mock
+    private OrderStatusStreamService orderStatusStreamService;
+
+    @Mock
+    private MarketDataFeed marketDataFeed;
+
+    @Mock
+    private OrderOutbox orderOutbox;
+
+    @Mock
+    private OrderJournal orderJournal;
+
+    @InjectMocks
+    private MatchingEngine matchingEngine;
+
+    private final AssetSymbol aapl = AssetSymbol.of("AAPL");
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void submit_WithoutLock_ThrowsException() {
+        Order buyOrder = order(1L, 1L, OrderSide.BUY, "100", "10");
+
+        assertThrows(IllegalStateException.class, () -> matchingEngine.submit(buyOrder));
+    }
+
+    @Test
+    void lockSymbol_WithoutTransaction_ThrowsException() {
+        TransactionSynchronizationManager.clearSynchronization();
+        try {
+            assertThrows(IllegalStateException.class, () -> matchingEngine.lockSymbol(aapl));
+        } finally {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+    }
+
+    @Test
+    void submit_CrossingOrder_SettlesBothCustomers() {
+        Order sellOrder = order(1L, 2L, OrderSide.SELL, "95", "10");
+        Order buyOrder = order(2L, 1L, OrderSide.BUY, "100", "4");
+        Asset buyerCash = asset(1L, "TRY", "10000", "9600");
+        Asset buyerStock = asset(1L, "AAPL", "0", "0");
+        Asset sellerStock = asset(2L, "AAPL", "10", "0");
+        Asset sellerCash = asset(2L, "TRY", "0", "0");
+
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of(sellOrder));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(sellOrder));
+        stubBalances(buyerCash, buyerStock, sellerStock, sellerCash);
+
+        matchingEngine.lockSymbol(aapl);
+        List<Fill> fills = matchingEngine.submit(buyOrder);
+
+        assertEquals(List.of(new Fill(2L, 1L, Money.of("95"), Quantity.of("4"))), fills);
+        assertEquals(OrderStatus.MATCHED, buyOrder.getStatus());
+        assertEquals(OrderStatus.PENDING, sellOrder.getStatus());
+        assertEquals(new BigDecimal("6.00"), sellOrder.getRemainingSize().getValue());
+
+        assertEquals(new BigDecimal("9620.00"), buyerCash.getSize().getValue());
+        assertEquals(0, new BigDecimal("9620.00").compareTo(buyerCash.getUsableSize().getValue()));
+        assertEquals(new BigDecimal("4.00"), buyerStock.getSize().getValue());
+        assertEquals(new BigDecimal("6.00"), sellerStock.getSize().getValue());
+        assertEquals(new BigDecimal("380.00"), sellerCash.getSize().getValue());
+        verify(orderStatusStreamService).publish(buyOrder);
+        verify(orderStatusStreamService, never()).publish(sellOrder);
+        verify(orderOutbox).appendFill(buyOrder, Money.of("95"), Quantity.of("4"), buyerCash, buyerStock);
+        verify(orderOutbox).appendFill(sellOrder, Money.of("95"), Quantity.of("4"), sellerStock, sellerCash);
+        // All four balances go through one sorted lock pass, including the buyer's already reserved TRY
+        verify(assetManagementService).getOrCreateAssetsForUpdate(argThat(keys -> keys.containsAll(List.of(
+                AssetKey.of(1L, "TRY"), AssetKey.of(1L, "AAPL"), AssetKey.of(2L, "AAPL"), AssetKey.of(2L, "TRY")))));
+        verify(assetManagementService, never()).getAssetForUpdate(any(), any());
+    }
+
+    @Test
+    void submit_NonCrossingOrder_RestsInBook() {
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of());
+
+        matchingEngine.lockSymbol(aapl);
+        List<Fill> fills = matchingEngine.submit(order(1L, 1L, OrderSide.BUY, "100", "10"));
+        List<Fill> secondFills = matchingEngine.submit(order(2L, 2L, OrderSide.SELL, "101", "10"));
+
+        assertTrue(fills.isEmpty());
+        assertTrue(secondFills.isEmpty());
+        verifyNoInteractions(assetManagementService);
+    }
+
+    @Test
+    void submit_MarketOrder_SweepsUpToItsPriceWithoutResting() {
+        Order firstSell = order(1L, 2L, OrderSide.SELL, "95", "3");
+        Order secondSell = order(3L, 3L, OrderSide.SELL, "99", "3");
+        Order farSell = order(4L, 2L, OrderSide.SELL, "110", "5");
+        Order marketBuy = order(2L, 1L, OrderSide.BUY, "104", "10");
+        marketBuy.setOrderType(OrderType.MARKET);
+        Asset buyerCash = asset(1L, "TRY", "10000", "8960");
+
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of(firstSell, secondSell, farSell));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(firstSell));
+        when(orderRepository.findById(3L)).thenReturn(Optional.of(secondSell));
+        stubBalances(buyerCash, asset(1L, "AAPL", "0", "0"), asset(2L, "AAPL", "8", "0"), asset(2L, "TRY", "0", "0"),
+                asset(3L, "AAPL", "3", "0"), asset(3L, "TRY", "0", "0"));
+
+        matchingEngine.lockSymbol(aapl);
+        List<Fill> fills = matchingEngine.submit(marketBuy);
+
+        assertEquals(List.of(new Fill(2L, 1L, Money.of("95"), Quantity.of("3")),
+                new Fill(2L, 3L, Money.of("99"), Quantity.of("3"))), fills);
+        assertEquals(OrderStatus.PENDING, marketBuy.getStatus());
+        assertEquals(new BigDecimal("4.00"), marketBuy.getRemainingSize().getValue());
+        assertEquals(Optional.empty(), matchingEngine.bestPrice(aapl, OrderSide.BUY));
+        assertEquals(Optional.of(Money.of("110")), matchingEngine.bestPrice(aapl, OrderSide.SELL));
+        // Charged at the resting prices; the cap only held back the 4 x 104.00 still reserved
+        assertEquals(new BigDecimal("9418.00"), buyerCash.getSize().getValue());
+        assertEquals(0, new BigDecimal("9002.00").compareTo(buyerCash.getUsableSize().getValue()));
+        verify(orderJournal).recordMarket(eq(aapl), argThat(order -> order.getOrderId() == 2L));
+        verify(orderJournal, never()).recordCreate(any(), any());
+    }
+
+    @Test
+    void lockSymbol_AfterRollback_ReloadsBook() {
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of());
+
+        matchingEngine.lockSymbol(aapl);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        matchingEngine.lockSymbol(aapl);
+
+        verify(orderRepository, times(2)).findByAssetNameAndStatus("AAPL", OrderStatus.PENDING);
+    }
+
+    @Test
+    void submit_WatchedSymbol_PublishesDepthAndTradesAfterCommit() {
+        Order sellOrder = order(1L, 2L, OrderSide.SELL, "95", "10");
+        Order buyOrder = order(2L, 1L, OrderSide.BUY, "100", "4");
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of(sellOrder));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(sellOrder));
+        stubBalances(asset(1L, "TRY", "10000", "9600"), asset(1L, "AAPL", "0", "0"),
+                asset(2L, "AAPL", "10", "0"), asset(2L, "TRY", "0", "0"));
+        when(marketDataFeed.isWatched(aapl)).thenReturn(true);
+        when(marketDataFeed.getDepth()).thenReturn(10);
+
+        matchingEngine.lockSymbol(aapl);
+        matchingEngine.lockSymbol(aapl);
+        matchingEngine.submit(buyOrder);
+        verify(marketDataFeed, never()).onCommit(any(), any(), any());
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        BookDepth expectedDepth = new BookDepth(List.of(), List.of(new BookLevel(Money.of("95"), Quantity.of("6"))));
+        verify(marketDataFeed).onCommit(aapl, expectedDepth, List.of(new Fill(2L, 1L, Money.of("95"), Quantity.of("4"))));
+    }
+
+    @Test
+    void lockSymbol_RolledBack_PublishesNoMarketData() {
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of());
+
+        matchingEngine.lockSymbol(aapl);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verifyNoInteractions(marketDataFeed);
+    }
+
+    @Test
+    void lockSymbol_RecoveredBookMatchesPendingOrders_UsesRecoveredBook() {
+        OrderBook recovered = new OrderBook(aapl);
+        recovered.add(BookOrder.from(order(1L, 2L, OrderSide.SELL, "101", "10")));
+        when(orderJournal.takeRecoveredBook(aapl)).thenReturn(Optional.of(recovered));
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING))
+                .thenReturn(List.of(order(1L, 2L, OrderSide.SELL, "101", "10")));
+
+        matchingEngine.lockSymbol(aapl);
+        matchingEngine.submit(order(2L, 1L, OrderSide.BUY, "100", "5"));
+
+        assertTrue(recovered.contains(2L));
+        verify(orderJournal, never()).recordReset(any());
+    }
+
+    @Test
+    void lockSymbol_RecoveredBookMissesPartialFill_LoadsFromDatabase() {
+        Order partiallyFilled = order(1L, 2L, OrderSide.SELL, "101", "10");
+        partiallyFilled.fill(Quantity.of("4"));
+        OrderBook recovered = new OrderBook(aapl);
+        recovered.add(BookOrder.from(order(1L, 2L, OrderSide.SELL, "101", "10")));
+        when(orderJournal.takeRecoveredBook(aapl)).thenReturn(Optional.of(recovered));
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of(partiallyFilled));
+
+        matchingEngine.lockSymbol(aapl);
+
+        verify(orderJournal).recordReset(argThat(book -> book.orders().size() == 1
+                && book.orders().get(0).getRemaining().equals(Quantity.of("6"))));
+        assertEquals(Optional.of(Money.of("101")), matchingEngine.bestPrice(aapl, OrderSide.SELL));
+    }
+
+    @Test
+    void lockSymbol_RecoveredBookMissesPendingOrder_LoadsFromDatabase() {
+        Order pendingOrder = order(3L, 2L, OrderSide.SELL, "101", "10");
+        OrderBook recovered = new OrderBook(aapl);
+        recovered.add(BookOrder.from(order(1L, 2L, OrderSide.SELL, "101", "10")));
+        when(orderJournal.takeRecoveredBook(aapl)).thenReturn(Optional.of(recovered));
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of(pendingOrder));
+
+        matchingEngine.lockSymbol(aapl);
+
+        verify(orderJournal).recordReset(argThat(book -> book.size() == 1 && book.contains(3L)));
+        verify(orderJournal, never()).recordCreate(any(), any());
+    }
+
+    @Test
+    void submitAndRemove_RecordsJournalCommands() {
+        Order buyOrder = order(1L, 1L, OrderSide.BUY, "100", "10");
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of());
+
+        matchingEngine.lockSymbol(aapl);
+        matchingEngine.submit(buyOrder);
+        buyOrder.cancel();
+        matchingEngine.remove(buyOrder);
+        matchingEngine.remove(buyOrder);
+
+        verify(orderJournal).recordCreate(eq(aapl), argThat(order -> order.getOrderId() == 1L));
+        verify(orderJournal, times(1)).recordRemove(buyOrder);
+    }
+
+    @Test
+    void lockSymbolForOrder_UnknownOrder_ThrowsException() {
+        when(orderRepository.findAssetNameById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> matchingEngine.lockSymbolForOrder(99L));
+        verify(orderRepository, never()).findByAssetNameAndStatus(any(), any());
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private Order order(Long id, Long customerId, OrderSide side, String price, String size) {
+        Order order = new Order();
+        order.setId(id);
+        order.setCustomerId(customerId);
+        order.setAssetSymbol(aapl);
+        order.setOrderSide(side);
+        order.setPrice(Money.of(price));
+        order.setSize(Quantity.of(size));
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
+
+    // Serves the locked balances of each fill from the given assets
+    private void stubBalances(Asset... assets) {
+        when(assetManagementService.getOrCreateAssetsForUpdate(anyCollection())).thenAnswer(invocation -> {
+            Collection<AssetKey> keys = invocation.getArgument(0);
+            Map<AssetKey, Asset> balances = new HashMap<>();
+            for (Asset asset : assets) {
+                AssetKey key = AssetKey.of(asset.getCustomerId(), asset.getAssetSymbol().getSymbol());
+                if (keys.contains(key)) {
+                    balances.put(key, asset);
+                }
+            }
+            return balances;
+        });
+    }
+
+    private Asset asset(Long customerId, String assetName, String size, String usableSize) {
+        Asset asset = new Asset();
+        asset.setCustomerId(customerId);
+        asset.setAssetSymbol(AssetSymbol.of(assetName));
+        asset.setSize(Quantity.of(size));
+        asset.setUsableSize(UsableSize.of(new BigDecimal(usableSize)));
+        return asset;
+    }
+}
@@ -0,0 +1,122 @@
+package com.brokage.application.service.matching;
+
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBookTest {
+
+    private OrderBook orderBook;
+
+    @BeforeEach
+    void setUp() {
+        orderBook = new OrderBook(AssetSymbol.of("AAPL"));
+    }
+
+    @Test
+    void match_NoCrossingOrders_ReturnsNoFills() {
+        orderBook.add(order(1L, OrderSide.SELL, "101", "10"));
+
+        List<Fill> fills = orderBook.match(order(2L, OrderSide.BUY, "100", "10"));
+
+        assertTrue(fills.isEmpty());
+        assertEquals(1, orderBook.size());
+    }
+
+    @Test
+    void match_CrossingBuy_FillsAtRestingPrice() {
+        orderBook.add(order(1L, OrderSide.SELL, "99", "10"));
+        BookOrder incoming = order(2L, OrderSide.BUY, "100", "10");
+
+        List<Fill> fills = orderBook.match(incoming);
+
+        assertEquals(1, fills.size());
+        assertEquals(new Fill(2L, 1L, Money.of("99"), Quantity.of("10")), fills.get(0));
+        assertTrue(incoming.isFilled());
+        assertEquals(0, orderBook.size());
+    }
+
+    @Test
+    void match_SweepsBestPricesFirst() {
+        orderBook.add(order(1L, OrderSide.BUY, "98", "5"));
+        orderBook.add(order(2L, OrderSide.BUY, "100", "5"));
+        orderBook.add(order(3L, OrderSide.BUY, "99", "5"));
+
+        List<Fill> fills = orderBook.match(order(4L, OrderSide.SELL, "99", "8"));
+
+        assertEquals(2, fills.size());
+        assertEquals(new Fill(2L, 4L, Money.of("100"), Quantity.of("5")), fills.get(0));
+        assertEquals(new Fill(3L, 4L, Money.of("99"), Quantity.of("3")), fills.get(1));
+        assertEquals(Money.of("99"), orderBook.bestBid().orElseThrow());
+    }
+
+    @Test
+    void match_SamePrice_HonoursTimePriority() {
+        orderBook.add(order(1L, OrderSide.SELL, "100", "5"));
+        orderBook.add(order(2L, OrderSide.SELL, "100", "5"));
+
+        List<Fill> fills = orderBook.match(order(3L, OrderSide.BUY, "100", "7"));
+
+        assertEquals(2, fills.size());
+        assertEquals(1L, fills.get(0).getSellOrderId());
+        assertEquals(Quantity.of("5"), fills.get(0).getQuantity());
+        assertEquals(2L, fills.get(1).getSellOrderId());
+        assertEquals(Quantity.of("2"), fills.get(1).getQuantity());
+        assertFalse(orderBook.contains(1L));
+        assertTrue(orderBook.contains(2L));
+    }
+
+    @Test
+    void match_PartialFill_LeavesIncomingRemainder() {
+        orderBook.add(order(1L, OrderSide.SELL, "100", "4"));
+        BookOrder incoming = order(2L, OrderSide.BUY, "100", "10");
+
+        orderBook.match(incoming);
+
+        assertEquals(Quantity.of("6"), incoming.getRemaining());
+        assertTrue(orderBook.bestAsk().isEmpty());
+    }
+
+    @Test
+    void remove_ExistingOrder_RemovesPriceLevel() {
+        orderBook.add(order(1L, OrderSide.BUY, "100", "5"));
+
+        assertTrue(orderBook.remove(1L));
+        assertTrue(orderBook.bestBid().isEmpty());
+        assertFalse(orderBook.remove(1L));
+    }
+
+    @Test
+    void add_DuplicateOrder_ThrowsException() {
+        orderBook.add(order(1L, OrderSide.BUY, "100", "5"));
+
+        assertThrows(IllegalStateException.class, () -> orderBook.add(order(1L, OrderSide.BUY, "100", "5")));
+    }
+
+    @Test
+    void depth_AggregatesLevelsBestPriceFirst() {
+        orderBook.add(order(1L, OrderSide.BUY, "99", "5"));
+        orderBook.add(order(2L, OrderSide.BUY, "100", "3"));
+        orderBook.add(order(3L, OrderSide.BUY, "100", "2"));
+        orderBook.add(order(4L, OrderSide.BUY, "98", "1"));
+        orderBook.add(order(5L, OrderSide.SELL, "102", "4"));
+
+        BookDepth depth = orderBook.depth(2);
+
+        assertEquals(List.of(new BookLevel(Money.of("100"), Quantity.of("5")), new BookLevel(Money.of("99"), Quantity.of("5"))),
+                depth.getBids());
+        assertEquals(List.of(new BookLevel(Money.of("102"), Quantity.of("4"))), depth.getAsks());
+    }
+
+    private BookOrder order(Long orderId, OrderSide side, String price, String size) {
+        return new BookOrder(orderId, 1L, side, Money.of(price), Quantity.of(size));
+    }
+}
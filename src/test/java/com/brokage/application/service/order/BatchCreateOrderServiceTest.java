@@ -0,0 +1,199 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.dto.request.CreateOrderRequest;
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.enums.OrderEventType;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderType;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.AssetSymbolRegistry;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.domain.valueobject.UsableSize;
+import com.brokage.infrastructure.repository.OrderRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchCreateOrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private AssetManagementService assetManagementService;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @Mock
+    private OrderOutbox orderOutbox;
+
+    private BatchCreateOrderService batchCreateOrderService;
+
+    @BeforeEach
+    void setUp() {
+        // Traded symbols are registered from configuration at startup
+        AssetSymbol.of("AAPL");
+        AssetSymbol.of("MSFT");
+        batchCreateOrderService = new BatchCreateOrderService(orderRepository, assetManagementService, orderMapper,
+                matchingEngine, orderOutbox, Validation.buildDefaultValidatorFactory().getValidator(), 500);
+    }
+
+    @Test
+    void createOrders_SameBalance_ReservesOnce() {
+        Asset tryAsset = asset("TRY", "10000.00");
+        when(assetManagementService.findAssetForUpdate(1L, "TRY")).thenReturn(Optional.of(tryAsset));
+        stubPersistence();
+
+        List<BatchOrderResult> results = batchCreateOrderService.createOrders(List.of(
+                request("AAPL", OrderSide.BUY, "10", "100"),
+                request("MSFT", OrderSide.BUY, "5", "200")));
+
+        assertTrue(results.stream().allMatch(BatchOrderResult::isAccepted));
+        assertEquals(0, new BigDecimal("8000.00").compareTo(tryAsset.getUsableSize().getValue()));
+        verify(assetManagementService, times(1)).findAssetForUpdate(1L, "TRY");
+        verify(orderRepository, times(1)).saveAll(anyList());
+        verify(matchingEngine, times(2)).submit(any(Order.class));
+        verify(orderOutbox, times(2)).append(eq(OrderEventType.CREATED), any(Order.class), same(tryAsset));
+    }
+
+    @Test
+    void createOrders_ExceedingBalance_RejectsOnlyOverflowingOrders() {
+        Asset tryAsset = asset("TRY", "1500.00");
+        when(assetManagementService.findAssetForUpdate(1L, "TRY")).thenReturn(Optional.of(tryAsset));
+        stubPersistence();
+
+        List<BatchOrderResult> results = batchCreateOrderService.createOrders(List.of(
+                request("AAPL", OrderSide.BUY, "10", "100"),
+                request("AAPL", OrderSide.BUY, "10", "100"),
+                request("AAPL", OrderSide.BUY, "5", "100")));
+
+        assertTrue(results.get(0).isAccepted());
+        assertEquals("Insufficient TRY balance", results.get(1).getError());
+        assertTrue(results.get(2).isAccepted());
+        assertEquals(0, BigDecimal.ZERO.compareTo(tryAsset.getUsableSize().getValue()));
+    }
+
+    @Test
+    void createOrders_InvalidOrders_RejectedWithoutTouchingBalances() {
+        List<BatchOrderResult> results = batchCreateOrderService.createOrders(List.of(
+                request("A1", OrderSide.BUY, "10", "100"),
+                request("AAPL", OrderSide.BUY, "0", "100")));
+
+        assertEquals(List.of(0, 1), results.stream().map(BatchOrderResult::getIndex).toList());
+        assertTrue(results.stream().noneMatch(BatchOrderResult::isAccepted));
+        verifyNoInteractions(assetManagementService, matchingEngine);
+    }
+
+    @Test
+    void createOrders_MarketOrder_Rejected() {
+        CreateOrderRequest market = request("AAPL", OrderSide.BUY, "1", "100");
+        market.setOrderType(OrderType.MARKET);
+        market.setPrice(null);
+
+        List<BatchOrderResult> results = batchCreateOrderService.createOrders(List.of(market));
+
+        assertEquals("Market orders cannot be batched", results.get(0).getError());
+        verifyNoInteractions(assetManagementService, matchingEngine);
+    }
+
+    @Test
+    void createOrders_UnknownSymbol_RejectedWithoutRegistering() {
+        int registered = AssetSymbolRegistry.size();
+
+        List<BatchOrderResult> results = batchCreateOrderService.createOrders(List.of(
+                request("NOTRADED", OrderSide.BUY, "1", "100")));
+
+        assertEquals("Unknown asset symbol: NOTRADED", results.get(0).getError());
+        assertEquals(registered, AssetSymbolRegistry.size());
+        verifyNoInteractions(assetManagementService, matchingEngine);
+    }
+
+    @Test
+    void createOrders_MissingAsset_RejectsWholeGroup() {
+        when(assetManagementService.findAssetForUpdate(1L, "AAPL")).thenReturn(Optional.empty());
+        stubPersistence();
+
+        List<BatchOrderResult> results = batchCreateOrderService.createOrders(List.of(
+                request("AAPL", OrderSide.SELL, "1", "100"),
+                request("AAPL", OrderSide.SELL, "2", "100")));
+
+        assertEquals(List.of("Asset not found", "Asset not found"),
+                results.stream().map(BatchOrderResult::getError).toList());
+        verify(matchingEngine, never()).submit(any());
+    }
+
+    @Test
+    void createOrders_LocksSymbolsInSortedOrder() {
+        when(assetManagementService.findAssetForUpdate(1L, "TRY")).thenReturn(Optional.of(asset("TRY", "10000.00")));
+        stubPersistence();
+
+        batchCreateOrderService.createOrders(List.of(
+                request("MSFT", OrderSide.BUY, "1", "10"),
+                request("AAPL", OrderSide.BUY, "1", "10"),
+                request("MSFT", OrderSide.BUY, "1", "10")));
+
+        InOrder inOrder = inOrder(matchingEngine);
+        inOrder.verify(matchingEngine).lockSymbol(AssetSymbol.of("AAPL"));
+        inOrder.verify(matchingEngine).lockSymbol(AssetSymbol.of("MSFT"));
+        verify(matchingEngine, times(2)).lockSymbol(any());
+    }
+
+    @Test
+    void createOrders_EmptyOrOversizedBatch_ShouldThrowException() {
+        List<CreateOrderRequest> oversized = new ArrayList<>(Collections.nCopies(501,
+                request("AAPL", OrderSide.BUY, "1", "10")));
+
+        assertThrows(IllegalArgumentException.class, () -> batchCreateOrderService.createOrders(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> batchCreateOrderService.createOrders(oversized));
+        verifyNoInteractions(orderRepository);
+    }
+
+    private void stubPersistence() {
+        lenient().when(orderMapper.toEntity(any(CreateOrderRequest.class))).thenAnswer(invocation -> new Order());
+        lenient().when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static CreateOrderRequest request(String assetName, OrderSide side, String size, String price) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(1L);
+        request.setAssetName(assetName);
+        request.setOrderSide(side);
+        request.setSize(new BigDecimal(size));
+        request.setPrice(new BigDecimal(price));
+        return request;
+    }
+
+    private static Asset asset(String name, String usable) {
+        Asset asset = new Asset();
+        asset.setCustomerId(1L);
+        asset.setAssetSymbol(AssetSymbol.of(name));
+        asset.setSize(Quantity.of(new BigDecimal(usable)));
+        asset.setUsableSize(UsableSize.of(new BigDecimal(usable)));
+        return asset;
+    }
+}
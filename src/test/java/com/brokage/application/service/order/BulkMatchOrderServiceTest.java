@@ -0,0 +1,158 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.service.asset.AssetKey;
+import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.enums.OrderEventType;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.domain.valueobject.UsableSize;
+import com.brokage.infrastructure.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkMatchOrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private AssetManagementService assetManagementService;
+
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @Mock
+    private OrderStatusStreamService orderStatusStreamService;
+
+    @Mock
+    private OrderOutbox orderOutbox;
+
+    private BulkMatchOrderService bulkMatchOrderService;
+
+    @BeforeEach
+    void setUp() {
+        bulkMatchOrderService = new BulkMatchOrderService(orderRepository, assetManagementService, matchingEngine,
+                orderStatusStreamService, orderOutbox, 50000);
+    }
+
+    @Test
+    void matchPendingOrders_LoadsBalancesOnceAndMatchesAll() {
+        Order buy = order(1L, 1L, OrderSide.BUY, "10", "100");
+        Order sell = order(2L, 2L, OrderSide.SELL, "4", "100");
+        Map<AssetKey, Asset> assets = new HashMap<>();
+        assets.put(AssetKey.of(1L, "AAPL"), asset(1L, "AAPL", "0"));
+        assets.put(AssetKey.of(2L, "AAPL"), asset(2L, "AAPL", "4"));
+        assets.put(AssetKey.of(2L, "TRY"), asset(2L, "TRY", "0"));
+        when(orderRepository.findByAssetNameAndStatus("AAPL", OrderStatus.PENDING)).thenReturn(List.of(buy, sell));
+        when(assetManagementService.getOrCreateAssetsForUpdate(anyCollection())).thenReturn(assets);
+
+        BulkMatchResult result = bulkMatchOrderService.matchPendingOrders(AssetSymbol.of("AAPL"));
+
+        assertEquals(2, result.getMatchedCount());
+        assertTrue(result.getRejected().isEmpty());
+        assertEquals(OrderStatus.MATCHED, buy.getStatus());
+        assertEquals(OrderStatus.MATCHED, sell.getStatus());
+        assertEquals(0, new BigDecimal("10").compareTo(assets.get(AssetKey.of(1L, "AAPL")).getSize().getValue()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(assets.get(AssetKey.of(2L, "AAPL")).getSize().getValue()));
+        assertEquals(0, new BigDecimal("400").compareTo(assets.get(AssetKey.of(2L, "TRY")).getSize().getValue()));
+        verify(matchingEngine).lockSymbol(AssetSymbol.of("AAPL"));
+        verify(assetManagementService, times(1)).getOrCreateAssetsForUpdate(anyCollection());
+        verify(orderRepository, never()).save(any());
+        verify(matchingEngine).remove(buy);
+        verify(matchingEngine).remove(sell);
+        verify(orderOutbox).append(OrderEventType.MATCHED, buy, assets.get(AssetKey.of(1L, "AAPL")));
+        verify(orderOutbox).append(OrderEventType.MATCHED, sell, assets.get(AssetKey.of(2L, "AAPL")), assets.get(AssetKey.of(2L, "TRY")));
+    }
+
+    @Test
+    void matchOrders_UnknownAndNonPendingIds_RejectedIndividually() {
+        Order pending = order(1L, 1L, OrderSide.BUY, "10", "100");
+        Order canceled = order(2L, 1L, OrderSide.BUY, "10", "100");
+        canceled.setStatus(OrderStatus.CANCELED);
+        when(orderRepository.findAssetNamesByIdIn(anyCollection())).thenReturn(List.of("AAPL"));
+        when(orderRepository.findAllById(anyCollection())).thenReturn(List.of(pending, canceled));
+        when(assetManagementService.getOrCreateAssetsForUpdate(anyCollection())).thenAnswer(invocation -> {
+            Collection<AssetKey> keys = invocation.getArgument(0);
+            assertEquals(Set.of(AssetKey.of(1L, "AAPL")), Set.copyOf(keys));
+            return Map.of(AssetKey.of(1L, "AAPL"), asset(1L, "AAPL", "0"));
+        });
+
+        BulkMatchResult result = bulkMatchOrderService.matchOrders(List.of(1L, 2L, 3L, 1L));
+
+        assertEquals(1, result.getMatchedCount());
+        assertEquals(List.of(
+                new BulkMatchResult.Rejection(2L, "Only pending orders can be matched"),
+                new BulkMatchResult.Rejection(3L, "Order not found")), result.getRejected());
+        verify(matchingEngine).lockSymbol(AssetSymbol.of("AAPL"));
+    }
+
+    @Test
+    void matchOrders_SellWithoutHoldings_RejectsOrderOnly() {
+        Order sell = order(1L, 1L, OrderSide.SELL, "5", "100");
+        Map<AssetKey, Asset> assets = Map.of(
+                AssetKey.of(1L, "AAPL"), asset(1L, "AAPL", "2"),
+                AssetKey.of(1L, "TRY"), asset(1L, "TRY", "0"));
+        when(orderRepository.findAssetNamesByIdIn(anyCollection())).thenReturn(List.of("AAPL"));
+        when(orderRepository.findAllById(anyCollection())).thenReturn(List.of(sell));
+        when(assetManagementService.getOrCreateAssetsForUpdate(anyCollection())).thenReturn(assets);
+
+        BulkMatchResult result = bulkMatchOrderService.matchOrders(List.of(1L));
+
+        assertEquals(0, result.getMatchedCount());
+        assertEquals("Insufficient total size", result.getRejected().get(0).getReason());
+        assertEquals(OrderStatus.PENDING, sell.getStatus());
+        verify(matchingEngine, never()).remove(any());
+        verifyNoInteractions(orderOutbox);
+    }
+
+    @Test
+    void matchOrders_EmptyIds_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> bulkMatchOrderService.matchOrders(List.of()));
+        verifyNoInteractions(orderRepository, matchingEngine);
+    }
+
+    private static Order order(Long id, Long customerId, OrderSide side, String size, String price) {
+        Order order = new Order();
+        order.setId(id);
+        order.setCustomerId(customerId);
+        order.setAssetSymbol(AssetSymbol.of("AAPL"));
+        order.setOrderSide(side);
+        order.setSize(Quantity.of(size));
+        order.setFilledSize(Quantity.zero());
+        order.setPrice(Money.of(price));
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
+
+    private static Asset asset(Long customerId, String name, String size) {
+        Asset asset = new Asset();
+        asset.setCustomerId(customerId);
+        asset.setAssetSymbol(AssetSymbol.of(name));
+        asset.setSize(Quantity.of(size));
+        asset.setUsableSize(UsableSize.of(BigDecimal.ZERO));
+        return asset;
+    }
+}
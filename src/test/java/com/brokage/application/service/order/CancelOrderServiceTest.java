@@ -1,6 +1,9 @@
 package com.brokage.application.service.order;
 
 import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.enums.OrderEventType;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.entity.Order;
 import com.brokage.domain.enums.OrderSide;
@@ -34,6 +37,15 @@ class CancelOrderServiceTest {
     @Mock
     private FetchOrderService fetchOrderService;
 
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @Mock
+    private OrderStatusStreamService orderStatusStreamService;
+
+    @Mock
+    private OrderOutbox orderOutbox;
+
     @InjectMocks
     private CancelOrderService cancelOrderService;
 
@@ -67,9 +79,25 @@ class CancelOrderServiceTest {
 
         assertEquals(OrderStatus.CANCELED, order.getStatus());
         verify(orderRepository).save(order);
+        verify(orderStatusStreamService).publish(order);
+        verify(orderOutbox).append(OrderEventType.CANCELED, order, tryAsset);
+        verify(matchingEngine).lockSymbolForOrder(1L);
+        verify(matchingEngine).remove(order);
         assertEquals(new BigDecimal("11000.00"), tryAsset.getUsableSize().getValue());
     }
 
+    @Test
+    void cancelOrder_PartiallyFilledBuyOrder_ReleasesRemainingAmount() {
+        order.fill(Quantity.of(new BigDecimal("4")));
+        when(fetchOrderService.getOrderById(1L)).thenReturn(order);
+        when(assetManagementService.getAssetForUpdate(1L, "TRY")).thenReturn(tryAsset);
+
+        cancelOrderService.cancelOrder(1L, 1L);
+
+        assertEquals(OrderStatus.CANCELED, order.getStatus());
+        assertEquals(new BigDecimal("10600.00"), tryAsset.getUsableSize().getValue());
+    }
+
     @Test
     void cancelOrder_WrongCustomer_ThrowsException() {
         when(fetchOrderService.getOrderById(1L)).thenReturn(order);
@@ -83,5 +111,6 @@ class CancelOrderServiceTest {
         when(fetchOrderService.getOrderById(1L)).thenReturn(order);
 
         assertThrows(IllegalStateException.class, () -> cancelOrderService.cancelOrder(1L, 1L));
+        verifyNoInteractions(orderOutbox);
     }
 }
@@ -3,11 +3,16 @@ package com.brokage.application.service.order;
 import com.brokage.application.dto.request.CreateOrderRequest;
 import com.brokage.application.mapper.OrderMapper;
 import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.enums.OrderEventType;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.entity.Order;
 import com.brokage.domain.enums.OrderSide;
 import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.enums.OrderType;
 import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.AssetSymbolRegistry;
 import com.brokage.domain.valueobject.Money;
 import com.brokage.domain.valueobject.Quantity;
 import com.brokage.domain.valueobject.UsableSize;
@@ -15,14 +20,17 @@ import com.brokage.infrastructure.repository.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +45,15 @@ class CreateOrderServiceTest {
     @Mock
     private OrderMapper orderMapper;
 
-    @InjectMocks
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @Mock
+    private OrderOutbox orderOutbox;
+
+    @Mock
+    private OrderStatusStreamService orderStatusStreamService;
+
     private CreateOrderService createOrderService;
 
     private CreateOrderRequest buyOrderRequest;
@@ -48,6 +64,8 @@ class CreateOrderServiceTest {
 
     @BeforeEach
     void setUp() {
+        createOrderService = new CreateOrderService(orderRepository, assetManagementService, orderMapper,
+                matchingEngine, orderOutbox, orderStatusStreamService, BigDecimal.valueOf(5));
         buyOrderRequest = new CreateOrderRequest();
         buyOrderRequest.setCustomerId(1L);
         buyOrderRequest.setAssetName("AAPL");
@@ -114,6 +132,11 @@ class CreateOrderServiceTest {
         verify(assetManagementService).getAssetForUpdate(1L, "TRY");
         verify(orderMapper).toEntity(buyOrderRequest);
         verify(orderRepository).save(any(Order.class));
+        verify(matchingEngine).lockSymbol(AssetSymbol.of("AAPL"));
+        verify(matchingEngine).submit(mockOrder);
+        InOrder inOrder = inOrder(orderOutbox, matchingEngine);
+        inOrder.verify(orderOutbox).append(OrderEventType.CREATED, mockOrder, testTryAsset);
+        inOrder.verify(matchingEngine).submit(mockOrder);
         
         // Verify the asset balance was reduced correctly
         assertEquals(0, new BigDecimal("8500.00").compareTo(testTryAsset.getUsableSize().getValue())); // 10000 - 1500
@@ -134,6 +157,8 @@ class CreateOrderServiceTest {
         verify(assetManagementService).getAssetForUpdate(1L, "TRY");
         verify(orderMapper, never()).toEntity(any());
         verify(orderRepository, never()).save(any());
+        verify(matchingEngine, never()).submit(any());
+        verifyNoInteractions(orderOutbox);
     }
 
     @Test
@@ -163,6 +188,7 @@ class CreateOrderServiceTest {
         verify(assetManagementService).getAssetForUpdate(1L, "AAPL");
         verify(orderMapper).toEntity(sellOrderRequest);
         verify(orderRepository).save(any(Order.class));
+        verify(orderOutbox).append(OrderEventType.CREATED, mockOrder, testStockAsset);
         
         // Verify the asset balance was reduced correctly
         assertEquals(0, new BigDecimal("15").compareTo(testStockAsset.getUsableSize().getValue())); // 20 - 5
@@ -201,6 +227,22 @@ class CreateOrderServiceTest {
         verify(orderRepository, never()).save(any());
     }
 
+    @Test
+    void createOrder_WithUnknownSymbol_ShouldThrowException() {
+        // Given
+        buyOrderRequest.setAssetName("NOTLISTED");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            createOrderService.createOrder(buyOrderRequest);
+        });
+
+        assertEquals("Unknown asset symbol: NOTLISTED", exception.getMessage());
+        assertTrue(AssetSymbolRegistry.lookup("NOTLISTED").isEmpty());
+        verify(matchingEngine, never()).lockSymbol(any());
+        verify(orderRepository, never()).save(any());
+    }
+
     @Test
     void createOrder_WithNegativeSize_ShouldThrowException() {
         // Given
@@ -324,4 +366,120 @@ class CreateOrderServiceTest {
 
         assertEquals("Database error", exception.getMessage());
     }
+
+    @Test
+    void createMarketBuyOrder_PartialFill_ReservesAtCollarAndCancelsRemainder() {
+        // Given
+        CreateOrderRequest request = marketRequest(OrderSide.BUY, "10");
+        Order order = marketOrder(OrderSide.BUY, "10");
+        when(matchingEngine.bestPrice(AssetSymbol.of("AAPL"), OrderSide.SELL)).thenReturn(Optional.of(Money.of("100.00")));
+        when(assetManagementService.getAssetForUpdate(1L, "TRY")).thenReturn(tryAsset);
+        when(orderMapper.toEntity(request)).thenReturn(order);
+        when(orderRepository.save(order)).thenReturn(order);
+        when(matchingEngine.submit(order)).thenAnswer(invocation -> {
+            order.fill(Quantity.of("4"));
+            return List.of();
+        });
+
+        // When
+        Order result = createOrderService.createOrder(request);
+
+        // Then
+        assertEquals(OrderStatus.CANCELED, result.getStatus());
+        assertEquals(0, new BigDecimal("105.00").compareTo(result.getPrice().getAmount()));
+        // 1050.00 reserved at the 5% collar, the unfilled 6 x 105.00 released again
+        assertEquals(0, new BigDecimal("9580.00").compareTo(tryAsset.getUsableSize().getValue()));
+        InOrder inOrder = inOrder(orderOutbox, matchingEngine, orderStatusStreamService);
+        inOrder.verify(orderOutbox).append(OrderEventType.CREATED, order, tryAsset);
+        inOrder.verify(matchingEngine).submit(order);
+        inOrder.verify(orderOutbox).append(OrderEventType.CANCELED, order, tryAsset);
+        inOrder.verify(orderStatusStreamService).publish(order);
+    }
+
+    @Test
+    void createMarketSellOrder_FullFill_DoesNotCancel() {
+        // Given
+        CreateOrderRequest request = marketRequest(OrderSide.SELL, "5");
+        Order order = marketOrder(OrderSide.SELL, "5");
+        when(matchingEngine.bestPrice(AssetSymbol.of("AAPL"), OrderSide.BUY)).thenReturn(Optional.of(Money.of("100.00")));
+        when(assetManagementService.getAssetForUpdate(1L, "AAPL")).thenReturn(stockAsset);
+        when(orderMapper.toEntity(request)).thenReturn(order);
+        when(orderRepository.save(order)).thenReturn(order);
+        when(matchingEngine.submit(order)).thenAnswer(invocation -> {
+            order.fill(Quantity.of("5"));
+            return List.of();
+        });
+
+        // When
+        Order result = createOrderService.createOrder(request);
+
+        // Then
+        assertEquals(OrderStatus.MATCHED, result.getStatus());
+        assertEquals(0, new BigDecimal("95.00").compareTo(result.getPrice().getAmount()));
+        verify(orderOutbox, never()).append(eq(OrderEventType.CANCELED), any(), any(Asset[].class));
+        verifyNoInteractions(orderStatusStreamService);
+    }
+
+    @Test
+    void createMarketOrder_EmptyBook_ShouldThrowException() {
+        // Given
+        CreateOrderRequest request = marketRequest(OrderSide.BUY, "10");
+        when(matchingEngine.bestPrice(AssetSymbol.of("AAPL"), OrderSide.SELL)).thenReturn(Optional.empty());
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> createOrderService.createOrder(request));
+
+        assertEquals("No liquidity for market order", exception.getMessage());
+        verifyNoInteractions(assetManagementService, orderRepository, orderOutbox);
+    }
+
+    @Test
+    void createMarketOrder_WithPrice_ShouldThrowException() {
+        // Given
+        CreateOrderRequest request = marketRequest(OrderSide.BUY, "10");
+        request.setPrice(new BigDecimal("100.00"));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> createOrderService.createOrder(request));
+
+        assertEquals("Market orders take no price", exception.getMessage());
+        verifyNoInteractions(matchingEngine);
+    }
+
+    @Test
+    void createLimitOrder_WithoutPrice_ShouldThrowException() {
+        // Given
+        buyOrderRequest.setPrice(null);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> createOrderService.createOrder(buyOrderRequest));
+
+        assertEquals("Limit orders require a price", exception.getMessage());
+        verifyNoInteractions(matchingEngine);
+    }
+
+    private static CreateOrderRequest marketRequest(OrderSide side, String size) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(1L);
+        request.setAssetName("AAPL");
+        request.setOrderSide(side);
+        request.setOrderType(OrderType.MARKET);
+        request.setSize(new BigDecimal(size));
+        return request;
+    }
+
+    private static Order marketOrder(OrderSide side, String size) {
+        Order order = new Order();
+        order.setId(2L);
+        order.setCustomerId(1L);
+        order.setAssetSymbol(AssetSymbol.of("AAPL"));
+        order.setOrderSide(side);
+        order.setOrderType(OrderType.MARKET);
+        order.setSize(Quantity.of(size));
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
 }
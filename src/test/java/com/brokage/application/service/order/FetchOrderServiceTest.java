@@ -1,20 +1,26 @@
 package com.brokage.application.service.order;
 
 import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
 import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
 import com.brokage.infrastructure.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,52 +29,49 @@ class FetchOrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
-    @InjectMocks
     private FetchOrderService fetchOrderService;
 
+    @BeforeEach
+    void setUp() {
+        fetchOrderService = new FetchOrderService(orderRepository, 50, 500);
+    }
+
     @Test
-    void getCustomerOrders_Success() {
-        Order order1 = new Order();
-        Order order2 = new Order();
-        List<Order> expectedOrders = Arrays.asList(order1, order2);
-        
-        when(orderRepository.findByCustomerId(1L)).thenReturn(expectedOrders);
+    void getCustomerOrderPage_WithoutRange_ReturnsOrders() {
+        List<Order> expectedOrders = List.of(order(2L, LocalDateTime.now()), order(1L, LocalDateTime.now().minusHours(1)));
+        when(orderRepository.findPageByCustomerId(eq(1L), any(), any(), eq(Long.MAX_VALUE), eq(Limit.of(51))))
+                .thenReturn(expectedOrders);
 
-        List<Order> result = fetchOrderService.getCustomerOrders(1L);
+        OrderPage page = fetchOrderService.getCustomerOrderPage(1L, null, null, null, null);
 
-        assertEquals(2, result.size());
-        assertEquals(expectedOrders, result);
-        verify(orderRepository).findByCustomerId(1L);
+        assertEquals(expectedOrders, page.getOrders());
+        assertFalse(page.hasNext());
     }
 
     @Test
-    void getCustomerOrdersByDateRange_Success() {
+    void getCustomerOrderPage_DateRange_ReturnsOrdersInRange() {
         LocalDateTime start = LocalDateTime.now().minusDays(1);
         LocalDateTime end = LocalDateTime.now();
-        Order order = new Order();
-        List<Order> expectedOrders = Arrays.asList(order);
-        
-        when(orderRepository.findByCustomerIdAndDateRange(1L, start, end)).thenReturn(expectedOrders);
+        List<Order> expectedOrders = List.of(order(1L, start.plusHours(1)));
+        when(orderRepository.findPageByCustomerId(1L, start, end, Long.MAX_VALUE, Limit.of(51))).thenReturn(expectedOrders);
 
-        List<Order> result = fetchOrderService.getCustomerOrdersByDateRange(1L, start, end);
+        OrderPage page = fetchOrderService.getCustomerOrderPage(1L, start, end, null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(expectedOrders, result);
-        verify(orderRepository).findByCustomerIdAndDateRange(1L, start, end);
+        assertEquals(expectedOrders, page.getOrders());
+        verify(orderRepository).findPageByCustomerId(1L, start, end, Long.MAX_VALUE, Limit.of(51));
     }
 
     @Test
-    void getPendingOrders_Success() {
-        Order order = new Order();
-        List<Order> expectedOrders = Arrays.asList(order);
-        
-        when(orderRepository.findByStatusOrderByCreatedDate(OrderStatus.PENDING)).thenReturn(expectedOrders);
+    void getPendingOrderPage_WithoutFilters_ReturnsPendingOrders() {
+        List<Order> expectedOrders = List.of(order(1L, LocalDateTime.now()));
+        PendingOrderFilter filter = new PendingOrderFilter(null, null, null, null, null);
+        when(orderRepository.findPageByStatus(eq(OrderStatus.PENDING), any(), eq(Long.MIN_VALUE), any(), isNull(),
+                isNull(), isNull(), eq(Limit.of(51)))).thenReturn(expectedOrders);
 
-        List<Order> result = fetchOrderService.getPendingOrders();
+        OrderPage page = fetchOrderService.getPendingOrderPage(filter, null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(expectedOrders, result);
-        verify(orderRepository).findByStatusOrderByCreatedDate(OrderStatus.PENDING);
+        assertEquals(expectedOrders, page.getOrders());
+        assertFalse(page.hasNext());
     }
 
     @Test
@@ -90,4 +93,138 @@ class FetchOrderServiceTest {
 
         assertThrows(IllegalArgumentException.class, () -> fetchOrderService.getOrderById(1L));
     }
+
+    @Test
+    void getOrderAssetSymbol_Success() {
+        when(orderRepository.findAssetNameById(1L)).thenReturn(Optional.of("AAPL"));
+
+        AssetSymbol result = fetchOrderService.getOrderAssetSymbol(1L);
+
+        assertEquals(AssetSymbol.of("AAPL"), result);
+    }
+
+    @Test
+    void getOrderAssetSymbol_NotFound_ThrowsException() {
+        when(orderRepository.findAssetNameById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> fetchOrderService.getOrderAssetSymbol(1L));
+    }
+
+    @Test
+    void getCustomerOrderPage_MoreOrdersThanPageSize_ReturnsCursorOfLastOrder() {
+        LocalDateTime createdDate = LocalDateTime.of(2024, 3, 1, 10, 0);
+        List<Order> orders = List.of(order(3L, createdDate), order(2L, createdDate), order(1L, createdDate.minusDays(1)));
+        when(orderRepository.findPageByCustomerId(eq(1L), any(), any(), eq(Long.MAX_VALUE), eq(Limit.of(3))))
+                .thenReturn(orders);
+
+        OrderPage page = fetchOrderService.getCustomerOrderPage(1L, null, null, null, 2);
+
+        assertEquals(orders.subList(0, 2), page.getOrders());
+        assertTrue(page.hasNext());
+        assertEquals(new OrderCursor(createdDate, 2L), OrderCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getCustomerOrderPage_LastPage_ReturnsNoCursor() {
+        List<Order> orders = List.of(order(1L, LocalDateTime.now()));
+        when(orderRepository.findPageByCustomerId(eq(1L), any(), any(), anyLong(), any())).thenReturn(orders);
+
+        OrderPage page = fetchOrderService.getCustomerOrderPage(1L, null, null, null, 2);
+
+        assertEquals(orders, page.getOrders());
+        assertFalse(page.hasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getCustomerOrderPage_WithCursor_ContinuesAfterCursor() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 23, 59);
+        LocalDateTime cursorDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+        String cursor = new OrderCursor(cursorDate, 42L).encode();
+        when(orderRepository.findPageByCustomerId(1L, start, cursorDate, 42L, Limit.of(51))).thenReturn(List.of());
+
+        OrderPage page = fetchOrderService.getCustomerOrderPage(1L, start, end, cursor, null);
+
+        assertTrue(page.getOrders().isEmpty());
+        verify(orderRepository).findPageByCustomerId(1L, start, cursorDate, 42L, Limit.of(51));
+    }
+
+    @Test
+    void getCustomerOrderPage_WithoutCursor_StartsAtEndOfRange() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 23, 59);
+        when(orderRepository.findPageByCustomerId(1L, start, end, Long.MAX_VALUE, Limit.of(11))).thenReturn(List.of());
+
+        fetchOrderService.getCustomerOrderPage(1L, start, end, null, 10);
+
+        verify(orderRepository).findPageByCustomerId(1L, start, end, Long.MAX_VALUE, Limit.of(11));
+    }
+
+    @Test
+    void getCustomerOrderPage_PageSizeAboveMaximum_CapsPageSize() {
+        when(orderRepository.findPageByCustomerId(eq(1L), any(), any(), anyLong(), eq(Limit.of(501)))).thenReturn(List.of());
+
+        fetchOrderService.getCustomerOrderPage(1L, null, null, null, 10_000);
+
+        verify(orderRepository).findPageByCustomerId(eq(1L), any(), any(), anyLong(), eq(Limit.of(501)));
+    }
+
+    @Test
+    void getCustomerOrderPage_NonPositivePageSize_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> fetchOrderService.getCustomerOrderPage(1L, null, null, null, 0));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void getCustomerOrderPage_InvalidCursor_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> fetchOrderService.getCustomerOrderPage(1L, null, null, "not-a-cursor", 10));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void getPendingOrderPage_WithFilters_PassesFiltersAndReturnsCursor() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 31, 23, 59);
+        List<Order> orders = List.of(order(1L, start), order(2L, start.plusHours(1)), order(3L, start.plusHours(2)));
+        PendingOrderFilter filter = new PendingOrderFilter("aapl", OrderSide.BUY, 7L, start, end);
+        when(orderRepository.findPageByStatus(OrderStatus.PENDING, start, Long.MIN_VALUE, end, "AAPL", OrderSide.BUY,
+                7L, Limit.of(3))).thenReturn(orders);
+
+        OrderPage page = fetchOrderService.getPendingOrderPage(filter, null, 2);
+
+        assertEquals(orders.subList(0, 2), page.getOrders());
+        assertEquals(new OrderCursor(start.plusHours(1), 2L), OrderCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getPendingOrderPage_WithCursor_ContinuesAfterCursor() {
+        LocalDateTime cursorDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+        String cursor = new OrderCursor(cursorDate, 42L).encode();
+        when(orderRepository.findPageByStatus(eq(OrderStatus.PENDING), eq(cursorDate), eq(42L), any(), isNull(),
+                isNull(), isNull(), eq(Limit.of(51)))).thenReturn(List.of());
+
+        PendingOrderFilter filter = new PendingOrderFilter(null, null, null, null, null);
+        OrderPage page = fetchOrderService.getPendingOrderPage(filter, cursor, null);
+
+        assertTrue(page.getOrders().isEmpty());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void getPendingOrderPage_InvalidSymbol_ThrowsException() {
+        PendingOrderFilter filter = new PendingOrderFilter("A1", null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> fetchOrderService.getPendingOrderPage(filter, null, 10));
+        verifyNoInteractions(orderRepository);
+    }
+
+    private Order order(Long id, LocalDateTime createdDate) {
+        Order order = new Order();
+        order.setId(id);
+        order.setCreatedDate(createdDate);
+        return order;
+    }
 }
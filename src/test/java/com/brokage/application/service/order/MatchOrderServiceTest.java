@@ -1,6 +1,9 @@
 package com.brokage.application.service.order;
 
 import com.brokage.application.service.asset.AssetManagementService;
+import com.brokage.application.service.matching.MatchingEngine;
+import com.brokage.application.service.outbox.OrderOutbox;
+import com.brokage.domain.enums.OrderEventType;
 import com.brokage.domain.entity.Asset;
 import com.brokage.domain.entity.Order;
 import com.brokage.domain.enums.OrderSide;
@@ -34,6 +37,15 @@ class MatchOrderServiceTest {
     @Mock
     private FetchOrderService fetchOrderService;
 
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @Mock
+    private OrderStatusStreamService orderStatusStreamService;
+
+    @Mock
+    private OrderOutbox orderOutbox;
+
     @InjectMocks
     private MatchOrderService matchOrderService;
 
@@ -84,6 +96,8 @@ class MatchOrderServiceTest {
 
         assertEquals(OrderStatus.MATCHED, buyOrder.getStatus());
         verify(orderRepository).save(buyOrder);
+        verify(orderStatusStreamService).publish(buyOrder);
+        verify(orderOutbox).append(OrderEventType.MATCHED, buyOrder, stockAsset);
         assertEquals(new BigDecimal("30.00"), stockAsset.getSize().getValue());
     }
 
@@ -97,6 +111,7 @@ class MatchOrderServiceTest {
 
         assertEquals(OrderStatus.MATCHED, sellOrder.getStatus());
         verify(orderRepository).save(sellOrder);
+        verify(orderOutbox).append(OrderEventType.MATCHED, sellOrder, stockAsset, tryAsset);
         assertEquals(new BigDecimal("15.00"), stockAsset.getSize().getValue());
         assertEquals(new BigDecimal("10550.00"), tryAsset.getSize().getValue());
     }
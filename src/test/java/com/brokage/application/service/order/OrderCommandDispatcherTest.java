@@ -0,0 +1,131 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.dto.request.CreateOrderRequest;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.infrastructure.concurrent.OrderSequencer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCommandDispatcherTest {
+
+    @Mock
+    private CreateOrderService createOrderService;
+
+    @Mock
+    private BatchCreateOrderService batchCreateOrderService;
+
+    @Mock
+    private CancelOrderService cancelOrderService;
+
+    @Mock
+    private MatchOrderService matchOrderService;
+
+    @Mock
+    private BulkMatchOrderService bulkMatchOrderService;
+
+    @Mock
+    private FetchOrderService fetchOrderService;
+
+    private OrderSequencer orderSequencer;
+    private OrderCommandDispatcher orderCommandDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        orderSequencer = new OrderSequencer(true, 2, 16);
+        orderSequencer.start();
+        orderCommandDispatcher = new OrderCommandDispatcher(orderSequencer, createOrderService,
+                batchCreateOrderService, cancelOrderService, matchOrderService, bulkMatchOrderService, fetchOrderService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderSequencer.stop();
+    }
+
+    @Test
+    void createOrder_RunsOnSequencerThread() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(1L);
+        request.setAssetName("AAPL");
+        request.setOrderSide(OrderSide.BUY);
+        request.setSize(new BigDecimal("10"));
+        request.setPrice(new BigDecimal("100"));
+        Order order = new Order();
+        String[] threadName = new String[1];
+        when(createOrderService.createOrder(request)).thenAnswer(invocation -> {
+            threadName[0] = Thread.currentThread().getName();
+            return order;
+        });
+
+        Order result = orderCommandDispatcher.createOrder(request);
+
+        assertSame(order, result);
+        assertTrue(threadName[0].startsWith("order-sequencer-"));
+    }
+
+    @Test
+    void createOrders_RunsOnCallerThread() {
+        List<CreateOrderRequest> requests = List.of(new CreateOrderRequest());
+        List<BatchOrderResult> results = List.of(BatchOrderResult.rejected(0, "Invalid"));
+        String caller = Thread.currentThread().getName();
+        String[] threadName = new String[1];
+        when(batchCreateOrderService.createOrders(requests)).thenAnswer(invocation -> {
+            threadName[0] = Thread.currentThread().getName();
+            return results;
+        });
+
+        assertSame(results, orderCommandDispatcher.createOrders(requests));
+        assertEquals(caller, threadName[0]);
+    }
+
+    @Test
+    void matchPendingOrders_RunsOnSequencerThread() {
+        BulkMatchResult result = new BulkMatchResult(3, List.of());
+        String[] threadName = new String[1];
+        when(bulkMatchOrderService.matchPendingOrders(AssetSymbol.of("AAPL"))).thenAnswer(invocation -> {
+            threadName[0] = Thread.currentThread().getName();
+            return result;
+        });
+
+        assertSame(result, orderCommandDispatcher.matchPendingOrders("AAPL"));
+        assertTrue(threadName[0].startsWith("order-sequencer-"));
+    }
+
+    @Test
+    void cancelOrder_RoutesByOrderSymbol() {
+        when(fetchOrderService.getOrderAssetSymbol(1L)).thenReturn(AssetSymbol.of("AAPL"));
+
+        orderCommandDispatcher.cancelOrder(1L, 2L);
+
+        verify(cancelOrderService).cancelOrder(1L, 2L);
+    }
+
+    @Test
+    void matchOrder_PropagatesServiceException() {
+        when(fetchOrderService.getOrderAssetSymbol(1L)).thenReturn(AssetSymbol.of("AAPL"));
+        doThrow(new IllegalStateException("Only pending orders can be matched")).when(matchOrderService).matchOrder(1L);
+
+        assertThrows(IllegalStateException.class, () -> orderCommandDispatcher.matchOrder(1L));
+    }
+
+    @Test
+    void cancelOrder_UnknownOrder_DoesNotEnqueue() {
+        when(fetchOrderService.getOrderAssetSymbol(1L)).thenThrow(new IllegalArgumentException("Order not found"));
+
+        assertThrows(IllegalArgumentException.class, () -> orderCommandDispatcher.cancelOrder(1L, 2L));
+        verifyNoInteractions(cancelOrderService);
+    }
+}
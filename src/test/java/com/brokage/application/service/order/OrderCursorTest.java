@@ -0,0 +1,31 @@
+package com.brokage.application.service.order;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCursorTest {
+
+    @Test
+    void encode_Decode_RoundTrips() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 5, 17, 9, 30, 15, 123456000), 987L);
+
+        assertEquals(cursor, OrderCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encode_IsUrlSafe() {
+        String token = new OrderCursor(LocalDateTime.of(2024, 5, 17, 9, 30), 1L).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    void decode_Garbage_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("!!!"));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("bm9zZXBhcmF0b3I"));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(""));
+    }
+}
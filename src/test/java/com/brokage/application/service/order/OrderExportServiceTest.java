@@ -0,0 +1,120 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.dto.response.OrderResponse;
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.domain.entity.Order;
+import com.brokage.infrastructure.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportService(orderRepository, orderMapper, entityManager,
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void exportCustomerOrders_WritesOneJsonObjectPerLine() {
+        Order first = order(1L);
+        Order second = order(2L);
+        when(orderRepository.streamByCustomerId(1L)).thenReturn(Stream.of(first, second));
+        when(orderMapper.toResponse(first)).thenReturn(response(1L));
+        when(orderMapper.toResponse(second)).thenReturn(response(2L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = orderExportService.exportCustomerOrders(1L, out);
+
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"), lines[0]);
+        assertTrue(lines[1].startsWith("{\"id\":2,"), lines[1]);
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+    }
+
+    @Test
+    void exportCustomerOrders_DetachesEachOrderAndClosesStream() {
+        Order first = order(1L);
+        Order second = order(2L);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamByCustomerId(1L)).thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        when(orderMapper.toResponse(any())).thenReturn(response(1L));
+
+        orderExportService.exportCustomerOrders(1L, new ByteArrayOutputStream());
+
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportCustomerOrders_NoOrders_WritesNothing() {
+        when(orderRepository.streamByCustomerId(1L)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = orderExportService.exportCustomerOrders(1L, out);
+
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void exportCustomerOrders_ClientDisconnects_ThrowsUncheckedIOException() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamByCustomerId(1L)).thenReturn(Stream.of(new Order()).onClose(() -> closed.set(true)));
+        when(orderMapper.toResponse(any())).thenReturn(response(1L));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(UncheckedIOException.class, () -> orderExportService.exportCustomerOrders(1L, broken));
+        assertTrue(closed.get());
+    }
+
+    private Order order(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        return order;
+    }
+
+    private OrderResponse response(Long id) {
+        OrderResponse response = new OrderResponse();
+        response.setId(id);
+        response.setAssetName("AAPL");
+        return response;
+    }
+}
@@ -0,0 +1,206 @@
+package com.brokage.application.service.order;
+
+import com.brokage.application.dto.response.OrderResponse;
+import com.brokage.application.mapper.OrderMapper;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusStreamServiceTest {
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    private OrderStatusStreamService orderStatusStreamService;
+
+    @BeforeEach
+    void setUp() {
+        orderStatusStreamService = new OrderStatusStreamService(orderMapper, 60_000, 2, 0, 4, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderStatusStreamService.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_InTransaction_SendsAfterCommit() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        orderStatusStreamService.register(1L, emitter);
+        Order order = order(7L, 1L);
+        OrderResponse response = response(order);
+        when(orderMapper.toResponse(order)).thenReturn(response);
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderStatusStreamService.publish(order);
+        assertNull(emitter.events.poll(100, TimeUnit.MILLISECONDS));
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        String event = emitter.events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertTrue(event.contains("event:" + OrderStatusStreamService.EVENT_NAME), event);
+        assertTrue(event.contains("id:7"), event);
+    }
+
+    @Test
+    void publish_RolledBack_SendsNothing() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        orderStatusStreamService.register(1L, emitter);
+        Order order = order(7L, 1L);
+        when(orderMapper.toResponse(order)).thenReturn(response(order));
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderStatusStreamService.publish(order);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertNull(emitter.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publish_OtherCustomer_SkipsMapping() {
+        orderStatusStreamService.register(1L, new RecordingEmitter());
+
+        orderStatusStreamService.publish(order(7L, 2L));
+
+        verifyNoInteractions(orderMapper);
+    }
+
+    @Test
+    void register_TooManySubscribers_ThrowsException() {
+        orderStatusStreamService.register(1L, new RecordingEmitter());
+        orderStatusStreamService.register(1L, new RecordingEmitter());
+
+        assertThrows(IllegalStateException.class, () -> orderStatusStreamService.register(1L, new RecordingEmitter()));
+        assertEquals(2, orderStatusStreamService.getSubscriberCount());
+    }
+
+    @Test
+    void publish_StalledClient_DoesNotDelayOtherCustomers() throws Exception {
+        BlockingEmitter stalled = new BlockingEmitter();
+        RecordingEmitter reading = new RecordingEmitter();
+        orderStatusStreamService.register(1L, stalled);
+        orderStatusStreamService.register(2L, reading);
+        Order stalledOrder = order(7L, 1L);
+        Order readingOrder = order(8L, 2L);
+        when(orderMapper.toResponse(stalledOrder)).thenReturn(response(stalledOrder));
+        when(orderMapper.toResponse(readingOrder)).thenReturn(response(readingOrder));
+
+        orderStatusStreamService.publish(stalledOrder);
+        assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+        orderStatusStreamService.publish(readingOrder);
+
+        String event = reading.events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertTrue(event.contains("id:8"), event);
+        stalled.release.countDown();
+    }
+
+    @Test
+    void publish_ClientFallsBehind_IsDropped() throws Exception {
+        BlockingEmitter stalled = new BlockingEmitter();
+        orderStatusStreamService.register(1L, stalled);
+        Order order = order(7L, 1L);
+        when(orderMapper.toResponse(order)).thenReturn(response(order));
+
+        orderStatusStreamService.publish(order);
+        assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+        // One event is being sent, four fill the buffer and the next one overflows it
+        for (int i = 0; i < 5; i++) {
+            orderStatusStreamService.publish(order);
+        }
+
+        assertEquals(0, orderStatusStreamService.getSubscriberCount());
+        stalled.release.countDown();
+    }
+
+    @Test
+    void publish_SendBlockedPastTimeLimit_IsDropped() throws Exception {
+        OrderStatusStreamService limited = new OrderStatusStreamService(orderMapper, 60_000, 2, 0, 16, 50);
+        BlockingEmitter stalled = new BlockingEmitter();
+        limited.register(1L, stalled);
+        Order order = order(7L, 1L);
+        when(orderMapper.toResponse(order)).thenReturn(response(order));
+
+        limited.publish(order);
+        assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        limited.publish(order);
+
+        assertEquals(0, limited.getSubscriberCount());
+        stalled.release.countDown();
+        limited.stop();
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Order order(Long id, Long customerId) {
+        Order order = new Order();
+        order.setId(id);
+        order.setCustomerId(customerId);
+        order.setStatus(OrderStatus.MATCHED);
+        return order;
+    }
+
+    private static OrderResponse response(Order order) {
+        OrderResponse response = new OrderResponse();
+        response.setId(order.getId());
+        response.setCustomerId(order.getCustomerId());
+        response.setStatus(order.getStatus());
+        return response;
+    }
+
+    // Blocks its first send like a client whose socket buffer is full
+    private static final class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder event = new StringBuilder();
+            builder.build().forEach(part -> event.append(part.getData()));
+            events.add(event.toString());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.brokage.application.service.outbox;
+
+import com.brokage.application.mapper.AssetMapperImpl;
+import com.brokage.application.mapper.OrderMapperImpl;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.entity.OutboxEvent;
+import com.brokage.domain.enums.OrderEventType;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.domain.valueobject.UsableSize;
+import com.brokage.infrastructure.config.JpaConfig;
+import com.brokage.infrastructure.outbox.InMemoryOutboxSink;
+import com.brokage.infrastructure.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "app.outbox.relay.enabled=false")
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JpaConfig.class, OrderOutbox.class, OutboxRelay.class, InMemoryOutboxSink.class,
+        OrderMapperImpl.class, AssetMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private OrderOutbox orderOutbox;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink inMemoryOutboxSink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        inMemoryOutboxSink.clear();
+    }
+
+    @Test
+    void append_Committed_RelaysInOrderAndDeletes() throws Exception {
+        Order order = order(41L);
+        Asset tryAsset = asset("TRY", "8500");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderOutbox.append(OrderEventType.CREATED, order, tryAsset);
+            order.match();
+            orderOutbox.append(OrderEventType.MATCHED, order, tryAsset);
+        });
+
+        assertEquals(2, outboxRelay.drain());
+
+        List<OutboxEvent> relayed = inMemoryOutboxSink.getEvents();
+        assertEquals(List.of(OrderEventType.CREATED, OrderEventType.MATCHED),
+                relayed.stream().map(OutboxEvent::getEventType).toList());
+        assertTrue(relayed.get(0).getId() < relayed.get(1).getId());
+        JsonNode created = objectMapper.readTree(relayed.get(0).getPayload());
+        assertEquals("PENDING", created.get("order").get("status").asText());
+        assertEquals(0, new BigDecimal("1500").compareTo(created.get("amount").decimalValue()));
+        assertEquals(0, created.get("filledSize").decimalValue().signum());
+        assertEquals("TRY", created.get("balances").get(0).get("assetName").asText());
+        assertEquals(0, new BigDecimal("8500").compareTo(created.get("balances").get(0).get("usableSize").decimalValue()));
+        assertEquals("MATCHED", objectMapper.readTree(relayed.get(1).getPayload()).get("order").get("status").asText());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void appendFill_PartialThenFinalFill_RelaysEventPerFill() throws Exception {
+        Order order = order(44L);
+        Asset tryAsset = asset("TRY", "8500");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            order.fill(Quantity.of("4"));
+            orderOutbox.appendFill(order, Money.of("149"), Quantity.of("4"), tryAsset);
+            order.fill(Quantity.of("6"));
+            orderOutbox.appendFill(order, Money.of("150"), Quantity.of("6"), tryAsset);
+        });
+
+        assertEquals(2, outboxRelay.drain());
+
+        List<OutboxEvent> relayed = inMemoryOutboxSink.getEvents();
+        assertEquals(List.of(OrderEventType.PARTIALLY_FILLED, OrderEventType.MATCHED),
+                relayed.stream().map(OutboxEvent::getEventType).toList());
+        JsonNode partial = objectMapper.readTree(relayed.get(0).getPayload());
+        assertEquals("PENDING", partial.get("order").get("status").asText());
+        assertEquals(0, new BigDecimal("4").compareTo(partial.get("filledSize").decimalValue()));
+        assertEquals(0, new BigDecimal("4").compareTo(partial.get("fillSize").decimalValue()));
+        assertEquals(0, new BigDecimal("149").compareTo(partial.get("fillPrice").decimalValue()));
+        assertEquals("TRY", partial.get("balances").get(0).get("assetName").asText());
+        assertEquals(0, new BigDecimal("10").compareTo(
+                objectMapper.readTree(relayed.get(1).getPayload()).get("filledSize").decimalValue()));
+    }
+
+    @Test
+    void append_RolledBack_RelaysNothing() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderOutbox.append(OrderEventType.CREATED, order(42L));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxRelay.drain());
+        assertTrue(inMemoryOutboxSink.getEvents().isEmpty());
+    }
+
+    @Test
+    void append_WithoutTransaction_ThrowsException() {
+        assertThrows(IllegalTransactionStateException.class, () -> orderOutbox.append(OrderEventType.CREATED, order(43L)));
+    }
+
+    @Test
+    void drain_Backlog_RelaysInBatches() {
+        appendCommitted(5);
+        List<Integer> batchSizes = new ArrayList<>();
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, events -> batchSizes.add(events.size()),
+                transactionManager, false, 2, 1000);
+
+        assertEquals(5, relay.drain());
+
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void drain_SinkFails_KeepsBatchForRetry() {
+        appendCommitted(3);
+        OutboxRelay failing = new OutboxRelay(outboxEventRepository, events -> {
+            throw new IOException("sink down");
+        }, transactionManager, false, 10, 1000);
+
+        assertThrows(IllegalStateException.class, failing::drain);
+
+        assertEquals(3, outboxEventRepository.count());
+        assertEquals(3, outboxRelay.drain());
+    }
+
+    private void appendCommitted(int count) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                orderOutbox.append(OrderEventType.CREATED, order(100L + i));
+            }
+        });
+    }
+
+    private static Order order(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setCustomerId(1L);
+        order.setAssetSymbol(AssetSymbol.of("AAPL"));
+        order.setOrderSide(OrderSide.BUY);
+        order.setSize(Quantity.of("10"));
+        order.setPrice(Money.of("150"));
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
+
+    private static Asset asset(String name, String usable) {
+        Asset asset = new Asset();
+        asset.setCustomerId(1L);
+        asset.setAssetSymbol(AssetSymbol.of(name));
+        asset.setSize(Quantity.of(new BigDecimal("10000")));
+        asset.setUsableSize(UsableSize.of(new BigDecimal(usable)));
+        return asset;
+    }
+}
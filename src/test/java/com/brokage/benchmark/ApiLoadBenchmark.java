@@ -0,0 +1,358 @@
+package com.brokage.benchmark;
+
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.entity.Customer;
+import com.brokage.domain.enums.Role;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.domain.valueobject.UsableSize;
+import com.brokage.infrastructure.repository.AssetRepository;
+import com.brokage.infrastructure.repository.CustomerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the REST API over HTTP with a mix of create, cancel, match and read requests from many virtual clients,
+ * each logged in as its own customer. Clients are closed-loop: each sends its next request as soon as the previous
+ * one returns, so latencies are those seen at the offered concurrency. Settings are system properties, e.g.
+ * {@code mvn test -Pbenchmark -Dtest=ApiLoadBenchmark -Dload.clients=64 -Dload.mix=create=60,read=40}.
+ * Percentile distributions are written as HdrHistogram output to target/load-test. With {@code -Pjava21} the
+ * server runs on virtual threads, and any pinned virtual thread whose innermost application frame is ours fails
+ * the run.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:api-load",
+        "spring.jpa.show-sql=false",
+        "app.asset.traded-symbols=LOADA,LOADB,LOADC,LOADD",
+        "logging.level.com.brokage=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+class ApiLoadBenchmark {
+
+    private static final String[] SYMBOLS = {"LOADA", "LOADB", "LOADC", "LOADD"};
+    private static final String PASSWORD = "load123";
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final int clients = Integer.getInteger("load.clients", 32);
+    private final int warmupSeconds = Integer.getInteger("load.warmup-seconds", 5);
+    private final int durationSeconds = Integer.getInteger("load.duration-seconds", 20);
+    // The pinning check costs throughput on small machines; turn it off to compare raw throughput between modes
+    private final boolean recordPinning = Boolean.parseBoolean(System.getProperty("load.record-pinning", "true"));
+    private final Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix", "create=40,cancel=20,match=10,read=30"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final List<String> pinnedFrames = new CopyOnWriteArrayList<>();
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void mixedTraffic() throws Exception {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_LATENCY_MICROS, 3));
+        }
+        List<Long> customerIds = createCustomers();
+        String adminToken = login("admin", "admin123");
+        List<VirtualClient> virtualClients = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            virtualClients.add(new VirtualClient(customerIds.get(i), login("load" + i, PASSWORD), adminToken));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>();
+        for (VirtualClient client : virtualClients) {
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    client.next();
+                }
+                return null;
+            }));
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSeconds));
+        recorders.values().forEach(Recorder::reset);
+        rejected.set(0);
+        errors.set(0);
+        long startNanos = System.nanoTime();
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        // Only virtual threads can be pinned, and a JFR stream costs throughput on small machines
+        try (RecordingStream pinning = runsOnVirtualThreads() && recordPinning ? recordPinning() : null) {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+            recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        report(histograms, seconds);
+        assertEquals(0, errors.get(), "requests failed with 5xx or transport errors");
+        assertEquals(List.of(), pinnedFrames.stream().filter(frame -> frame.startsWith("com.brokage.")).distinct().toList(),
+                "virtual threads pinned by application code");
+        assertTrue(histograms.get(Operation.CREATE).getTotalCount() > 0);
+    }
+
+    private List<Long> createCustomers() {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Customer customer = new Customer();
+            customer.setUsername("load" + i);
+            customer.setPassword(passwordEncoder.encode(PASSWORD));
+            customer.setRole(Role.CUSTOMER);
+            customer.setFirstName("Load");
+            customer.setLastName("Client" + i);
+            customer.setEmail("load" + i + "@example.com");
+            customers.add(customer);
+        }
+        customerRepository.saveAll(customers);
+
+        // Enough cash and stock that orders are rejected only when they race their own cancel or match
+        List<Asset> assets = new ArrayList<>();
+        for (Customer customer : customers) {
+            assets.add(asset(customer.getId(), "TRY", "100000000"));
+            for (String symbol : SYMBOLS) {
+                assets.add(asset(customer.getId(), symbol, "1000000"));
+            }
+        }
+        assetRepository.saveAll(assets);
+        return customers.stream().map(Customer::getId).toList();
+    }
+
+    private void report(Map<Operation, Histogram> histograms, double seconds) throws IOException {
+        Path directory = Path.of("target", "load-test");
+        Files.createDirectories(directory);
+        long total = 0;
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            total += histogram.getTotalCount();
+            System.out.printf("[ApiLoad] %-6s requests=%d throughput=%.0f req/s p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                    entry.getKey(), histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.printf("[ApiLoad] clients=%d threads=%s time=%.1fs throughput=%.0f req/s rejected=%d errors=%d%n",
+                clients, runsOnVirtualThreads() ? "virtual" : "platform", seconds, total / seconds,
+                rejected.get(), errors.get());
+        pinnedFrames.stream().distinct().forEach(frame -> System.out.printf("[ApiLoad] pinned at %s (%d times)%n",
+                frame, pinnedFrames.stream().filter(frame::equals).count()));
+    }
+
+    private RecordingStream recordPinning() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> pinnedFrames.add(innermostApplicationFrame(event)));
+        stream.startAsync();
+        return stream;
+    }
+
+    private boolean runsOnVirtualThreads() {
+        return virtualThreads && Runtime.version().feature() >= 21;
+    }
+
+    private static String innermostApplicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "jdk";
+    }
+
+    private String login(String username, String password) throws Exception {
+        HttpResponse<String> response = httpClient.send(request("/api/auth/login", null)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private static Asset asset(Long customerId, String symbol, String size) {
+        Asset asset = new Asset();
+        asset.setCustomerId(customerId);
+        asset.setAssetSymbol(AssetSymbol.of(symbol));
+        asset.setSize(Quantity.of(size));
+        asset.setUsableSize(UsableSize.of(new BigDecimal(size)));
+        return asset;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Load mix has no weight: " + mix);
+        }
+        return weights;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private enum Operation {
+        CREATE, CANCEL, MATCH, READ
+    }
+
+    private final class VirtualClient {
+
+        private final Long customerId;
+        private final String token;
+        private final String adminToken;
+        // Orders this client created that may still be pending
+        private final List<Long> openOrderIds = new ArrayList<>();
+
+        private VirtualClient(Long customerId, String token, String adminToken) {
+            this.customerId = customerId;
+            this.token = token;
+            this.adminToken = adminToken;
+        }
+
+        private void next() throws InterruptedException {
+            Operation operation = pick();
+            if ((operation == Operation.CANCEL || operation == Operation.MATCH) && openOrderIds.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+            HttpRequest request = switch (operation) {
+                case CREATE -> createRequest();
+                case CANCEL -> request("/api/orders/" + takeOpenOrder() + "?customerId=" + customerId, token).DELETE().build();
+                case MATCH -> request("/api/admin/orders/" + takeOpenOrder() + "/match", adminToken)
+                        .POST(HttpRequest.BodyPublishers.noBody()).build();
+                case READ -> request("/api/assets?customerId=" + customerId, token).GET().build();
+            };
+
+            long startNanos = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException ex) {
+                errors.incrementAndGet();
+                return;
+            }
+            recorders.get(operation).recordValue(Math.min(HIGHEST_LATENCY_MICROS,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos)));
+
+            int status = response.statusCode();
+            if (status >= 500) {
+                errors.incrementAndGet();
+            } else if (status >= 400) {
+                // Expected when the order was filled by a counterparty before it could be canceled or matched
+                rejected.incrementAndGet();
+            } else if (operation == Operation.CREATE) {
+                rememberCreated(response.body());
+            }
+        }
+
+        private HttpRequest createRequest() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String body = String.format("{\"customerId\":%d,\"assetName\":\"%s\",\"orderSide\":\"%s\",\"size\":%d,\"price\":%d}",
+                    customerId, SYMBOLS[random.nextInt(SYMBOLS.length)], random.nextBoolean() ? "BUY" : "SELL",
+                    1 + random.nextInt(10), 95 + random.nextInt(11));
+            return request("/api/orders", token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private void rememberCreated(String body) {
+            try {
+                JsonNode order = objectMapper.readTree(body);
+                if ("PENDING".equals(order.path("status").asText())) {
+                    openOrderIds.add(order.get("id").asLong());
+                }
+            } catch (IOException ex) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private Long takeOpenOrder() {
+            return openOrderIds.remove(ThreadLocalRandom.current().nextInt(openOrderIds.size()));
+        }
+
+        private Operation pick() {
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            int roll = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+                roll -= entry.getValue();
+                if (roll < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("Load mix has no weight");
+        }
+    }
+}
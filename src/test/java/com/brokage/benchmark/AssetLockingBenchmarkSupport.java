@@ -0,0 +1,127 @@
+package com.brokage.benchmark;
+
+import com.brokage.application.dto.request.CreateOrderRequest;
+import com.brokage.application.service.asset.AssetInitializationService;
+import com.brokage.application.service.order.CreateOrderService;
+import com.brokage.domain.entity.Asset;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.infrastructure.repository.AssetRepository;
+import com.brokage.infrastructure.retry.aspect.OptimisticLockRetryAspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Many threads place BUY orders for one customer, so every order reserves from the same TRY row
+abstract class AssetLockingBenchmarkSupport {
+
+    private static final long CUSTOMER_ID = 10_000L;
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 200;
+    private static final int AFFORDABLE_ORDERS = 1_000;
+    private static final BigDecimal ORDER_SIZE = new BigDecimal("10");
+    private static final BigDecimal ORDER_PRICE = new BigDecimal("100");
+    private static final BigDecimal ORDER_COST = ORDER_SIZE.multiply(ORDER_PRICE);
+
+    @Autowired
+    private CreateOrderService createOrderService;
+
+    @Autowired
+    private AssetInitializationService assetInitializationService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private OptimisticLockRetryAspect optimisticLockRetryAspect;
+
+    protected Result runBenchmark(String mode) throws Exception {
+        BigDecimal initialBalance = ORDER_COST.multiply(BigDecimal.valueOf(AFFORDABLE_ORDERS));
+        assetInitializationService.initializeCustomerWithTRY(CUSTOMER_ID, initialBalance);
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long conflictsBefore = optimisticLockRetryAspect.getConflictCount();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            // One symbol per thread keeps the matching engine out of the way, only the TRY row is shared
+            String symbol = "LOCK" + (char) ('A' + t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    try {
+                        createOrderService.createOrder(buyOrder(symbol));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException ex) {
+                        rejected.incrementAndGet();
+                    } catch (ConcurrencyFailureException ex) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        Result result = new Result(mode, THREADS * ORDERS_PER_THREAD, accepted.get(), rejected.get(), failed.get(),
+                optimisticLockRetryAspect.getConflictCount() - conflictsBefore, elapsedNanos);
+        System.out.println(result.report());
+
+        Asset tryAsset = assetRepository.findByCustomerIdAndAssetName(CUSTOMER_ID, "TRY").orElseThrow();
+        BigDecimal reserved = ORDER_COST.multiply(BigDecimal.valueOf(accepted.get()));
+        assertEquals(0, initialBalance.subtract(reserved).compareTo(tryAsset.getUsableSize().getValue()),
+                "Usable TRY must reflect exactly the accepted orders");
+        assertTrue(accepted.get() <= AFFORDABLE_ORDERS, "Orders must never over-reserve the balance");
+        assertEquals(THREADS * ORDERS_PER_THREAD, accepted.get() + rejected.get() + failed.get());
+        return result;
+    }
+
+    private CreateOrderRequest buyOrder(String symbol) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(CUSTOMER_ID);
+        request.setAssetName(symbol);
+        request.setOrderSide(OrderSide.BUY);
+        request.setSize(ORDER_SIZE);
+        request.setPrice(ORDER_PRICE);
+        return request;
+    }
+
+    protected record Result(String mode, int requests, int accepted, int rejected, int failed,
+                            long conflicts, long elapsedNanos) {
+
+        double throughput() {
+            return requests / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double conflictRate() {
+            return (double) conflicts / (requests + conflicts);
+        }
+
+        String report() {
+            return String.format("Asset locking [%s]: %d requests in %d ms, %.0f req/s, accepted=%d rejected=%d "
+                            + "failed=%d conflicts=%d conflictRate=%.2f%%",
+                    mode, requests, elapsedNanos / 1_000_000, throughput(), accepted, rejected, failed,
+                    conflicts, conflictRate() * 100);
+        }
+    }
+}
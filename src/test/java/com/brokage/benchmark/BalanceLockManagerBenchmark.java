@@ -0,0 +1,39 @@
+package com.brokage.benchmark;
+
+import com.brokage.application.service.asset.BalanceLockManager;
+import com.brokage.application.service.asset.BalanceLockStats;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:lock-in-process",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.brokage=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "app.sequencer.enabled=false",
+        "app.asset.balance-lock.enabled=true",
+        "app.asset.lock-mode=OPTIMISTIC"
+})
+class BalanceLockManagerBenchmark extends AssetLockingBenchmarkSupport {
+
+    @Autowired
+    private BalanceLockManager balanceLockManager;
+
+    @Test
+    void createOrder_ConcurrentBuysForOneCustomer() throws Exception {
+        Result result = runBenchmark("IN_PROCESS");
+
+        for (BalanceLockStats stats : balanceLockManager.getStats()) {
+            System.out.printf("Balance lock customer=%d acquisitions=%d timeouts=%d avgWait=%.2fms maxWait=%.2fms "
+                            + "avgHold=%.2fms maxHold=%.2fms%n",
+                    stats.getCustomerId(), stats.getAcquisitions(), stats.getTimeouts(), stats.getAverageWaitMillis(),
+                    stats.getMaxWaitMillis(), stats.getAverageHoldMillis(), stats.getMaxHoldMillis());
+        }
+        assertEquals(0, result.conflicts());
+    }
+}
@@ -0,0 +1,87 @@
+package com.brokage.benchmark;
+
+import com.brokage.application.service.order.OrderExportService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Exports a large order history and samples heap usage while it streams
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-export",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.brokage=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "app.sequencer.enabled=false"
+})
+class OrderExportBenchmark {
+
+    private static final long CUSTOMER_ID = 20_000L;
+    private static final int ORDERS = 200_000;
+    private static final int BATCH_SIZE = 5_000;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportCustomerOrders_LargeHistory() {
+        insertOrders();
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+        long baseline = usedHeap();
+
+        long startNanos = System.nanoTime();
+        long exported = orderExportService.exportCustomerOrders(CUSTOMER_ID, out);
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        System.out.printf("[OrderExport] orders=%d bytes=%d time=%.2fs throughput=%.0f orders/s "
+                        + "baselineHeap=%dMB maxHeapDuringExport=%dMB%n",
+                exported, out.bytes, seconds, exported / seconds, baseline >> 20, out.maxHeap >> 20);
+        assertEquals(ORDERS, exported);
+        assertEquals(ORDERS, out.lines);
+    }
+
+    private void insertOrders() {
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        for (int batch = 0; batch < ORDERS; batch += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = batch; i < batch + BATCH_SIZE; i++) {
+                rows.add(new Object[]{i + 1L, Timestamp.valueOf(start.plusSeconds(i)), CUSTOMER_ID, "AAPL", "BUY", 10, 0, 100, "CANCELED"});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO orders (id, created_date, customer_id, asset_name, order_side, size, "
+                    + "filled_size, price, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+        private long maxHeap;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % 10_000 == 0) {
+                maxHeap = Math.max(maxHeap, usedHeap());
+            }
+        }
+    }
+}
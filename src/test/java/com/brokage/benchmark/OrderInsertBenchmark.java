@@ -0,0 +1,93 @@
+package com.brokage.benchmark;
+
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Persists orders through JPA in chunks and reports rows inserted per second and statements per row
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-insert",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.com.brokage=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "app.sequencer.enabled=false"
+})
+class OrderInsertBenchmark {
+
+    private static final int ORDERS = 200_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void saveAll_ChunkedInserts() {
+        insert(20_000);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startNanos = System.nanoTime();
+        insert(ORDERS);
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        System.out.printf("[OrderInsert] rows=%d time=%.2fs throughput=%.0f rows/s statements=%d statementsPerRow=%.3f%n",
+                statistics.getEntityInsertCount(), seconds, ORDERS / seconds, statistics.getPrepareStatementCount(),
+                (double) statistics.getPrepareStatementCount() / ORDERS);
+        assertEquals(ORDERS, statistics.getEntityInsertCount());
+    }
+
+    private void insert(int count) {
+        for (int chunk = 0; chunk < count; chunk += CHUNK_SIZE) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Order> orders = new ArrayList<>(CHUNK_SIZE);
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    orders.add(order(i));
+                }
+                orderRepository.saveAll(orders);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private static Order order(int i) {
+        Order order = new Order();
+        order.setCustomerId(30_000L + i % 100);
+        order.setAssetSymbol(AssetSymbol.of("AAPL"));
+        order.setOrderSide(i % 2 == 0 ? OrderSide.BUY : OrderSide.SELL);
+        order.setSize(Quantity.of("10"));
+        order.setPrice(Money.of("100"));
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
+}
@@ -0,0 +1,27 @@
+package com.brokage.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:lock-pessimistic",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.brokage=INFO",
+        "logging.level.org.springframework.security=INFO",
+        "app.sequencer.enabled=false",
+        "app.asset.balance-lock.enabled=false",
+        "app.asset.lock-mode=PESSIMISTIC"
+})
+class PessimisticAssetLockingBenchmark extends AssetLockingBenchmarkSupport {
+
+    @Test
+    void createOrder_ConcurrentBuysForOneCustomer() throws Exception {
+        Result result = runBenchmark("PESSIMISTIC");
+
+        assertEquals(0, result.conflicts());
+    }
+}
@@ -85,4 +85,42 @@ class OrderTest {
         order.setStatus(OrderStatus.MATCHED);
         assertThrows(IllegalStateException.class, () -> order.match());
     }
+
+    @Test
+    void match_PendingOrder_FillsRemainingSize() {
+        order.fill(Quantity.of(new BigDecimal("4")));
+        order.match();
+        assertEquals(new BigDecimal("10.00"), order.getFilledSize().getValue());
+        assertTrue(order.getRemainingSize().isZero());
+    }
+
+    @Test
+    void fill_PartialQuantity_KeepsOrderPending() {
+        order.fill(Quantity.of(new BigDecimal("4")));
+
+        assertEquals(OrderStatus.PENDING, order.getStatus());
+        assertEquals(new BigDecimal("6.00"), order.getRemainingSize().getValue());
+        assertEquals(new BigDecimal("900.00"), order.getRemainingAmount().getAmount());
+    }
+
+    @Test
+    void fill_RemainingQuantity_MatchesOrder() {
+        order.fill(Quantity.of(new BigDecimal("4")));
+        order.fill(Quantity.of(new BigDecimal("6")));
+
+        assertEquals(OrderStatus.MATCHED, order.getStatus());
+        assertTrue(order.getRemainingSize().isZero());
+    }
+
+    @Test
+    void fill_MoreThanRemaining_ThrowsException() {
+        order.fill(Quantity.of(new BigDecimal("8")));
+        assertThrows(IllegalStateException.class, () -> order.fill(Quantity.of(new BigDecimal("3"))));
+    }
+
+    @Test
+    void fill_CanceledOrder_ThrowsException() {
+        order.setStatus(OrderStatus.CANCELED);
+        assertThrows(IllegalStateException.class, () -> order.fill(Quantity.one()));
+    }
 }
@@ -0,0 +1,69 @@
+package com.brokage.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetSymbolRegistryTest {
+
+    @Test
+    void intern_SameSymbol_ReturnsSameInstance() {
+        AssetSymbol first = AssetSymbolRegistry.intern("REGA");
+        AssetSymbol second = AssetSymbolRegistry.intern("REGA");
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void intern_UnnormalizedSymbol_ReturnsCanonicalInstance() {
+        AssetSymbol canonical = AssetSymbolRegistry.intern("REGB");
+
+        assertSame(canonical, AssetSymbolRegistry.intern("  regb "));
+    }
+
+    @Test
+    void intern_DistinctSymbols_AssignsDistinctIds() {
+        AssetSymbol first = AssetSymbolRegistry.intern("REGC");
+        AssetSymbol second = AssetSymbolRegistry.intern("REGD");
+
+        assertNotEquals(first.getId(), second.getId());
+        assertTrue(first.getId() >= 0 && first.getId() < AssetSymbolRegistry.MAX_SYMBOLS);
+        assertTrue(AssetSymbolRegistry.size() > Math.max(first.getId(), second.getId()));
+    }
+
+    @Test
+    void intern_InvalidSymbol_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> AssetSymbolRegistry.intern("R1"));
+        assertThrows(IllegalArgumentException.class, () -> AssetSymbolRegistry.intern(null));
+    }
+
+    @Test
+    void lookup_KnownSymbol_ReturnsInternedInstance() {
+        AssetSymbol interned = AssetSymbolRegistry.intern("REGF");
+
+        assertSame(interned, AssetSymbolRegistry.lookup(" regf").orElseThrow());
+    }
+
+    @Test
+    void lookup_UnknownSymbol_IsNotRegistered() {
+        int registered = AssetSymbolRegistry.size();
+
+        assertTrue(AssetSymbolRegistry.lookup("REGUNKNOWN").isEmpty());
+        assertTrue(AssetSymbolRegistry.lookup("REGUNKNOWN").isEmpty());
+        assertEquals(registered, AssetSymbolRegistry.size());
+        assertThrows(IllegalArgumentException.class, () -> AssetSymbolRegistry.lookup("R1"));
+    }
+
+    @Test
+    void byId_RegisteredId_ReturnsSymbol() {
+        AssetSymbol symbol = AssetSymbolRegistry.intern("REGE");
+
+        assertSame(symbol, AssetSymbolRegistry.byId(symbol.getId()));
+    }
+
+    @Test
+    void byId_UnknownId_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> AssetSymbolRegistry.byId(-1));
+        assertThrows(IllegalArgumentException.class, () -> AssetSymbolRegistry.byId(AssetSymbolRegistry.MAX_SYMBOLS));
+    }
+}
@@ -199,4 +199,17 @@ class AssetSymbolTest {
 
         assertEquals("AAPL", assetSymbol.getSymbol());
     }
+
+    @Test
+    void of_SameSymbol_ReturnsInternedInstance() {
+        assertSame(AssetSymbol.of("MSFT"), AssetSymbol.of("msft"));
+    }
+
+    @Test
+    void getId_ConstructedSymbol_MatchesInternedId() {
+        AssetSymbol constructed = new AssetSymbol("NVDA");
+
+        assertEquals(AssetSymbol.of("NVDA").getId(), constructed.getId());
+        assertEquals(AssetSymbol.of("NVDA"), constructed);
+    }
 }
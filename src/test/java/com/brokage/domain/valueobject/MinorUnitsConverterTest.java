@@ -0,0 +1,36 @@
+package com.brokage.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinorUnitsConverterTest {
+
+    private final MinorUnitsConverter converter = new MinorUnitsConverter();
+
+    @Test
+    void convertToDatabaseColumn_MinorUnits_ReturnsScaleTwoDecimal() {
+        BigDecimal column = converter.convertToDatabaseColumn(150050L);
+        
+        assertEquals(new BigDecimal("1500.50"), column);
+        assertEquals(2, column.scale());
+    }
+
+    @Test
+    void convertToEntityAttribute_Decimal_ReturnsMinorUnits() {
+        assertEquals(150050L, converter.convertToEntityAttribute(new BigDecimal("1500.50")));
+    }
+
+    @Test
+    void convertToEntityAttribute_ExtraScale_RoundsHalfUp() {
+        assertEquals(101L, converter.convertToEntityAttribute(new BigDecimal("1.005")));
+    }
+
+    @Test
+    void convert_Null_ReturnsNull() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
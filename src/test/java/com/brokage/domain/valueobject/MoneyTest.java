@@ -331,4 +331,46 @@ class MoneyTest {
         
         assertEquals("0.00", money.toDisplayString());
     }
+
+    @Test
+    void ofMinorUnits_ValidValue_ScalesByTwo() {
+        Money money = Money.ofMinorUnits(12345);
+        
+        assertEquals(new BigDecimal("123.45"), money.getAmount());
+        assertEquals(Money.of("123.45"), money);
+    }
+
+    @Test
+    void ofMinorUnits_NegativeValue_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.ofMinorUnits(-1));
+    }
+
+    @Test
+    void constructor_AmountOutOfRange_ThrowsException() {
+        BigDecimal tooLarge = new BigDecimal("100000000000000000000.00");
+        
+        assertThrows(IllegalArgumentException.class, () -> new Money(tooLarge));
+    }
+
+    @Test
+    void add_Overflow_ThrowsArithmeticException() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+        
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofMinorUnits(1)));
+    }
+
+    @Test
+    void multiply_QuantityOverflow_ThrowsArithmeticException() {
+        Money large = Money.ofMinorUnits(Long.MAX_VALUE / 10);
+        
+        assertThrows(ArithmeticException.class, () -> large.multiply(Quantity.of(1000)));
+    }
+
+    @Test
+    void multiply_QuantityWithFraction_RoundsHalfUp() {
+        Money price = Money.of("0.05");
+        Quantity quantity = Quantity.of("0.50");
+        
+        assertEquals(Money.of("0.03"), price.multiply(quantity));
+    }
 }
@@ -359,4 +359,24 @@ class QuantityTest {
         
         assertEquals("0.00", quantity.toDisplayString());
     }
+
+    @Test
+    void ofMinorUnits_ValidValue_ScalesByTwo() {
+        Quantity quantity = Quantity.ofMinorUnits(250);
+        
+        assertEquals(new BigDecimal("2.50"), quantity.getValue());
+        assertEquals(250, quantity.getMinorUnits());
+    }
+
+    @Test
+    void of_NegativeInt_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Quantity.of(-1));
+    }
+
+    @Test
+    void add_Overflow_ThrowsArithmeticException() {
+        Quantity max = Quantity.ofMinorUnits(Long.MAX_VALUE);
+        
+        assertThrows(ArithmeticException.class, () -> max.add(Quantity.ofMinorUnits(1)));
+    }
 }
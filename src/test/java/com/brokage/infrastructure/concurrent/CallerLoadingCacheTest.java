@@ -0,0 +1,59 @@
+package com.brokage.infrastructure.concurrent;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallerLoadingCacheTest {
+
+    private final AsyncCache<Long, String> cache = Caffeine.newBuilder().maximumSize(10).buildAsync();
+
+    @Test
+    void get_ConcurrentMiss_LoadsOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> CallerLoadingCache.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> CallerLoadingCache.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        release.countDown();
+
+        assertEquals("value", first.get(5, TimeUnit.SECONDS));
+        assertEquals("value", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_LoaderThrowsError_CompletesLoadAndRethrows() {
+        assertThrows(AssertionError.class, () -> CallerLoadingCache.get(cache, 1L, id -> {
+            throw new AssertionError("corrupt row");
+        }));
+
+        assertEquals("value", CallerLoadingCache.get(cache, 1L, id -> "value"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
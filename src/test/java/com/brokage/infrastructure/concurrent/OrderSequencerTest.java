@@ -0,0 +1,134 @@
+package com.brokage.infrastructure.concurrent;
+
+import com.brokage.domain.valueobject.AssetSymbol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderSequencerTest {
+
+    private OrderSequencer orderSequencer;
+
+    @BeforeEach
+    void setUp() {
+        orderSequencer = new OrderSequencer(true, 2, 1024);
+        orderSequencer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderSequencer.stop();
+    }
+
+    @Test
+    void execute_ReturnsCommandResult() {
+        String result = orderSequencer.execute(AssetSymbol.of("AAPL"), () -> "done");
+
+        assertEquals("done", result);
+    }
+
+    @Test
+    void execute_SameSymbol_RunsOnSameThread() {
+        String first = orderSequencer.execute(AssetSymbol.of("AAPL"), () -> Thread.currentThread().getName());
+        String second = orderSequencer.execute(AssetSymbol.of("AAPL"), () -> Thread.currentThread().getName());
+
+        assertEquals(first, second);
+        assertTrue(first.startsWith("order-sequencer-"));
+    }
+
+    @Test
+    void execute_CommandThrows_PropagatesOriginalException() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> orderSequencer.execute(AssetSymbol.of("AAPL"), () -> {
+                    throw new IllegalStateException("Insufficient TRY balance");
+                }));
+
+        assertEquals("Insufficient TRY balance", exception.getMessage());
+    }
+
+    @Test
+    void execute_ConcurrentCallers_SerializesCommandsPerSymbol() throws Exception {
+        int[] counter = new int[1];
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            futures.add(executor.submit(() -> orderSequencer.execute(AssetSymbol.of("AAPL"), () -> counter[0]++)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1_000, counter[0]);
+    }
+
+    @Test
+    void execute_Disabled_RunsOnCallingThread() {
+        OrderSequencer inline = new OrderSequencer(false, 1, 2);
+        inline.start();
+
+        String threadName = inline.execute(AssetSymbol.of("AAPL"), () -> Thread.currentThread().getName());
+
+        assertEquals(Thread.currentThread().getName(), threadName);
+    }
+
+    @Test
+    void execute_AfterStop_RejectsCommands() {
+        orderSequencer.stop();
+
+        assertThrows(RejectedExecutionException.class,
+                () -> orderSequencer.execute(AssetSymbol.of("AAPL"), () -> "late"));
+    }
+
+    @Test
+    void execute_IdleShard_WaitsWithoutTimeout() throws Exception {
+        Thread shard = orderSequencer.execute(AssetSymbol.of("AAPL"), Thread::currentThread);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (shard.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(Thread.State.WAITING, shard.getState());
+    }
+
+    @Test
+    void execute_StopWhileEnqueuing_RunsOrRejectsEveryCommand() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicInteger ran = new AtomicInteger();
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    orderSequencer.execute(AssetSymbol.of("AAPL"), ran::incrementAndGet);
+                    return true;
+                } catch (RejectedExecutionException ex) {
+                    return false;
+                }
+            }));
+        }
+        orderSequencer.stop();
+
+        int accepted = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS)) {
+                accepted++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(accepted, ran.get());
+    }
+}
@@ -0,0 +1,87 @@
+package com.brokage.infrastructure.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void constructor_NonPowerOfTwoCapacity_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(100));
+    }
+
+    @Test
+    void offerAndPoll_PreservesFifoOrder() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(4);
+
+        assertTrue(ringBuffer.offer(1));
+        assertTrue(ringBuffer.offer(2));
+        assertTrue(ringBuffer.offer(3));
+
+        assertEquals(1, ringBuffer.poll());
+        assertEquals(2, ringBuffer.poll());
+        assertEquals(3, ringBuffer.poll());
+        assertNull(ringBuffer.poll());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void offer_FullBuffer_ReturnsFalse() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(2);
+
+        assertTrue(ringBuffer.offer(1));
+        assertTrue(ringBuffer.offer(2));
+        assertFalse(ringBuffer.offer(3));
+
+        assertEquals(1, ringBuffer.poll());
+        assertTrue(ringBuffer.offer(3));
+    }
+
+    @Test
+    void offer_NullElement_ThrowsException() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(2);
+
+        assertThrows(IllegalArgumentException.class, () -> ringBuffer.offer(null));
+    }
+
+    @Test
+    void offer_ConcurrentProducers_DeliversEveryElementOnce() throws InterruptedException {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ringBuffer.offer(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            Integer element = ringBuffer.poll();
+            if (element != null) {
+                assertTrue(received.add(element));
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertNull(ringBuffer.poll());
+    }
+}
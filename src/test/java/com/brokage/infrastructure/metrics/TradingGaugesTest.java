@@ -0,0 +1,40 @@
+package com.brokage.infrastructure.metrics;
+
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.infrastructure.repository.AssetRepository;
+import com.brokage.infrastructure.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradingGaugesTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @InjectMocks
+    private TradingGauges tradingGauges;
+
+    @Test
+    void bindTo_Scrape_ReadsPendingOrdersAndReservedTry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tradingGauges.bindTo(registry);
+        when(orderRepository.countByStatus(OrderStatus.PENDING)).thenReturn(3L);
+        when(assetRepository.sumReservedByAssetName("TRY")).thenReturn(new BigDecimal("1250.50"));
+
+        assertEquals(3.0, registry.get("brokage.orders.pending").gauge().value());
+        assertEquals(1250.5, registry.get("brokage.assets.reserved").tag("asset", "TRY").gauge().value());
+    }
+}
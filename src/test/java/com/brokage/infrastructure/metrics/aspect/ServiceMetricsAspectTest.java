@@ -0,0 +1,125 @@
+package com.brokage.infrastructure.metrics.aspect;
+
+import com.brokage.application.service.order.CancelOrderService;
+import com.brokage.application.service.order.CreateOrderService;
+import com.brokage.application.service.order.FetchOrderService;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.infrastructure.metrics.OperationTags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry registry;
+    private ServiceMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new ServiceMetricsAspect(registry);
+    }
+
+    @Test
+    void time_DescribedCall_RecordsTaggedTimer() throws Throwable {
+        signature(CreateOrderService.class, "createOrder");
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            OperationTags.describe(OrderSide.BUY, AssetSymbol.of("AAPL"));
+            return "ok";
+        });
+
+        assertEquals("ok", aspect.time(joinPoint));
+
+        Timer timer = registry.get(ServiceMetricsAspect.CALLS)
+                .tags("service", "CreateOrderService", "method", "createOrder",
+                        "side", "BUY", "symbol.type", "STOCK", "outcome", "success")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void time_Rejection_CountsReasonAndRethrows() throws Throwable {
+        signature(CreateOrderService.class, "createOrder");
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            OperationTags.describe(OrderSide.BUY, AssetSymbol.of("AAPL"));
+            throw new IllegalStateException("Insufficient TRY balance");
+        });
+
+        assertThrows(IllegalStateException.class, () -> aspect.time(joinPoint));
+
+        assertEquals(1.0, registry.get(ServiceMetricsAspect.REJECTIONS)
+                .tags("method", "createOrder", "reason", "Insufficient TRY balance").counter().count());
+        assertEquals(1, registry.get(ServiceMetricsAspect.CALLS)
+                .tags("side", "BUY", "outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void time_NestedCall_KeepsOuterTags() throws Throwable {
+        Signature nestedSignature = mock(Signature.class);
+        ProceedingJoinPoint nested = mock(ProceedingJoinPoint.class);
+        when(nested.getSignature()).thenReturn(nestedSignature);
+        doReturn(FetchOrderService.class).when(nestedSignature).getDeclaringType();
+        when(nestedSignature.getName()).thenReturn("getOrderAssetSymbol");
+        when(nested.proceed()).thenAnswer(invocation -> {
+            OperationTags.describe(AssetSymbol.of("TRY"));
+            return null;
+        });
+        signature(CancelOrderService.class, "cancelOrder");
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            aspect.time(nested);
+            OperationTags.describe(OrderSide.SELL, AssetSymbol.of("AAPL"));
+            return null;
+        });
+
+        aspect.time(joinPoint);
+
+        assertEquals(1, registry.get(ServiceMetricsAspect.CALLS)
+                .tags("method", "getOrderAssetSymbol", "side", OperationTags.NONE, "symbol.type", "CURRENCY")
+                .timer().count());
+        assertEquals(1, registry.get(ServiceMetricsAspect.CALLS)
+                .tags("method", "cancelOrder", "side", "SELL", "symbol.type", "STOCK")
+                .timer().count());
+    }
+
+    @Test
+    void time_ExhaustedRetries_RecordsConflict() throws Throwable {
+        signature(CancelOrderService.class, "cancelOrder");
+        when(joinPoint.proceed()).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> aspect.time(joinPoint));
+
+        assertEquals(1, registry.get(ServiceMetricsAspect.CALLS)
+                .tags("side", OperationTags.NONE, "outcome", "conflict").timer().count());
+        assertTrue(registry.find(ServiceMetricsAspect.REJECTIONS).counters().isEmpty());
+    }
+
+    @Test
+    void reason_MessageWithValue_DropsValue() {
+        assertEquals("Unknown asset symbol id", ServiceMetricsAspect.reason(new IllegalArgumentException("Unknown asset symbol id: 7")));
+        assertEquals("IllegalStateException", ServiceMetricsAspect.reason(new IllegalStateException()));
+    }
+
+    private void signature(Class<?> service, String method) {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        doReturn(service).when(signature).getDeclaringType();
+        when(signature.getName()).thenReturn(method);
+    }
+}
@@ -0,0 +1,49 @@
+package com.brokage.infrastructure.outbox;
+
+import com.brokage.domain.entity.OutboxEvent;
+import com.brokage.domain.enums.OrderEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void publish_Batches_AppendsOneJsonLinePerEvent() throws Exception {
+        Path file = directory.resolve("events/outbox.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file.toString());
+
+        sink.publish(List.of(event(1L, OrderEventType.CREATED), event(2L, OrderEventType.MATCHED)));
+        sink.publish(List.of(event(3L, OrderEventType.CANCELED)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("CREATED", first.get("eventType").asText());
+        assertEquals(7L, first.get("orderId").asLong());
+        assertEquals("CREATED", first.get("payload").get("eventType").asText());
+        assertEquals("CANCELED", objectMapper.readTree(lines.get(2)).get("eventType").asText());
+    }
+
+    private static OutboxEvent event(Long id, OrderEventType type) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setOrderId(7L);
+        event.setEventType(type);
+        event.setPayload("{\"eventType\":\"" + type + "\"}");
+        return event;
+    }
+}
@@ -0,0 +1,70 @@
+package com.brokage.infrastructure.repository;
+
+import com.brokage.domain.entity.Order;
+import com.brokage.domain.enums.OrderSide;
+import com.brokage.domain.enums.OrderStatus;
+import com.brokage.domain.valueobject.AssetSymbol;
+import com.brokage.domain.valueobject.Money;
+import com.brokage.domain.valueobject.Quantity;
+import com.brokage.infrastructure.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class OrderBatchInsertTest {
+
+    private static final int ORDERS = 120;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void saveAll_SequenceIds_InsertsInJdbcBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(order(i));
+        }
+        statistics.clear();
+
+        orderRepository.saveAll(orders);
+        entityManager.flush();
+
+        assertEquals(ORDERS, statistics.getEntityInsertCount());
+        // 3 sequence calls and 3 insert batches instead of one statement per row
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+        assertEquals(ORDERS, orders.stream().map(Order::getId).distinct().count());
+    }
+
+    private static Order order(int i) {
+        Order order = new Order();
+        order.setCustomerId(1L + i % 3);
+        order.setAssetSymbol(AssetSymbol.of("AAPL"));
+        order.setOrderSide(OrderSide.BUY);
+        order.setSize(Quantity.of("1"));
+        order.setPrice(Money.of("100"));
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
+}
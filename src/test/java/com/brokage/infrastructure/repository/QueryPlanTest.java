@@ -0,0 +1,81 @@
+package com.brokage.infrastructure.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void streamByCustomerId_UsesCustomerCreatedIndex() {
+        String plan = explain("SELECT * FROM orders o WHERE o.customer_id = 2 ORDER BY o.created_date ASC, o.id ASC");
+
+        assertUsesIndex(plan, "IDX_ORDERS_CUSTOMER_CREATED");
+    }
+
+    @Test
+    void findPageByCustomerId_UsesCustomerCreatedIndexForKeysetRange() {
+        String plan = explain("SELECT * FROM orders o WHERE o.customer_id = 2 " +
+                "AND o.created_date >= TIMESTAMP '2024-01-01 00:00:00' " +
+                "AND o.created_date <= TIMESTAMP '2024-06-01 12:00:00' " +
+                "AND (o.created_date < TIMESTAMP '2024-06-01 12:00:00' OR o.id < 42) " +
+                "ORDER BY o.created_date DESC, o.id DESC FETCH FIRST 51 ROWS ONLY");
+
+        assertUsesIndex(plan, "IDX_ORDERS_CUSTOMER_CREATED");
+        assertTrue(plan.contains("CREATED_DATE <="), plan);
+    }
+
+    @Test
+    void findPageByStatus_UsesStatusCreatedIndexForKeysetRange() {
+        String plan = explain("SELECT * FROM orders o WHERE o.status = 'PENDING' " +
+                "AND o.created_date >= TIMESTAMP '2024-06-01 12:00:00' " +
+                "AND o.created_date <= TIMESTAMP '9999-12-31 23:59:59' " +
+                "AND (o.created_date > TIMESTAMP '2024-06-01 12:00:00' OR o.id > 42) " +
+                "AND (CAST(NULL AS VARCHAR) IS NULL OR o.asset_name = CAST(NULL AS VARCHAR)) " +
+                "ORDER BY o.created_date ASC, o.id ASC FETCH FIRST 51 ROWS ONLY");
+
+        assertUsesIndex(plan, "IDX_ORDERS_STATUS_CREATED");
+        assertTrue(plan.contains("CREATED_DATE >="), plan);
+    }
+
+    @Test
+    void findByAssetNameAndStatus_UsesAssetStatusCreatedIndex() {
+        String plan = explain("SELECT * FROM orders o WHERE o.asset_name = 'AAPL' AND o.status = 'PENDING' " +
+                "ORDER BY o.created_date ASC, o.id ASC");
+
+        assertUsesIndex(plan, "IDX_ORDERS_ASSET_STATUS_CREATED");
+    }
+
+    @Test
+    void findAssetsByCustomerId_UsesCustomerAssetUniqueIndex() {
+        String plan = explain("SELECT * FROM assets a WHERE a.customer_id = 2");
+
+        assertUsesIndex(plan, "UK_ASSETS_CUSTOMER_ASSET");
+    }
+
+    @Test
+    void findAssetByCustomerIdAndAssetName_UsesCustomerAssetUniqueIndex() {
+        String plan = explain("SELECT * FROM assets a WHERE a.customer_id = 2 AND a.asset_name = 'TRY'");
+
+        assertUsesIndex(plan, "UK_ASSETS_CUSTOMER_ASSET");
+        assertTrue(plan.contains("ASSET_NAME = 'TRY'"), plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private static void assertUsesIndex(String plan, String indexName) {
+        assertTrue(plan.contains("PUBLIC." + indexName), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+}
@@ -0,0 +1,67 @@
+package com.brokage.infrastructure.retry.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticLockRetryAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private OptimisticLockRetryAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new OptimisticLockRetryAspect(3, 0);
+    }
+
+    @Test
+    void retry_ConflictThenSuccess_ReturnsResult() throws Throwable {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed())
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn("ok");
+
+        Object result = aspect.retryOnOptimisticLock(joinPoint);
+
+        assertEquals("ok", result);
+        verify(joinPoint, times(2)).proceed();
+        assertEquals(1, aspect.getConflictCount());
+        assertEquals(0, aspect.getExhaustedCount());
+    }
+
+    @Test
+    void retry_PersistentConflict_ThrowsAfterMaxAttempts() throws Throwable {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> aspect.retryOnOptimisticLock(joinPoint));
+
+        verify(joinPoint, times(3)).proceed();
+        assertEquals(3, aspect.getConflictCount());
+        assertEquals(1, aspect.getExhaustedCount());
+    }
+
+    @Test
+    void retry_OtherException_IsNotRetried() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("Insufficient TRY balance"));
+
+        assertThrows(IllegalStateException.class, () -> aspect.retryOnOptimisticLock(joinPoint));
+
+        verify(joinPoint, times(1)).proceed();
+        assertEquals(0, aspect.getConflictCount());
+    }
+}
@@ -0,0 +1,88 @@
+package com.brokage.infrastructure.security;
+
+import com.brokage.domain.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "testSecretKey123456789012345678901234567890";
+
+    private final CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_ValidToken_LoadsPrincipalOnceThroughCache() throws Exception {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60_000, false, true, 100, 300);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, customUserDetailsService,
+                new PrincipalCache(true, 100, 60));
+        when(customUserDetailsService.loadUserById(7L)).thenReturn(principal());
+        String token = token(tokenProvider);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals(7L, ((UserPrincipal) authentication.getPrincipal()).getId());
+        verify(customUserDetailsService, times(1)).loadUserById(7L);
+    }
+
+    @Test
+    void doFilter_TokenWithPrincipalClaims_SkipsLookup() throws Exception {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60_000, true, true, 100, 300);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, customUserDetailsService,
+                new PrincipalCache(true, 100, 60));
+
+        filter.doFilter(request(token(tokenProvider)), new MockHttpServletResponse(), new MockFilterChain());
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("customer7", principal.getUsername());
+        assertEquals(Role.CUSTOMER, principal.getRole());
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    void doFilter_InvalidToken_LeavesContextEmpty() throws Exception {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60_000, false, true, 100, 300);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, customUserDetailsService,
+                new PrincipalCache(true, 100, 60));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("not.a.token"), new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    private String token(JwtTokenProvider tokenProvider) {
+        UserPrincipal principal = principal();
+        return tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private UserPrincipal principal() {
+        return new UserPrincipal(7L, "customer7", "hashed", Role.CUSTOMER);
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,113 @@
+package com.brokage.infrastructure.security;
+
+import com.brokage.domain.enums.Role;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKey123456789012345678901234567890";
+
+    @Test
+    void verify_ValidToken_ReturnsUserId() {
+        JwtTokenProvider provider = provider(60_000, false, true);
+
+        Optional<VerifiedToken> verified = provider.verify(token(provider));
+
+        assertTrue(verified.isPresent());
+        assertEquals(5L, verified.get().getUserId());
+        assertNull(verified.get().getPrincipal());
+    }
+
+    @Test
+    void verify_TokenWithPrincipalClaims_ReturnsPrincipal() {
+        JwtTokenProvider provider = provider(60_000, true, true);
+
+        UserPrincipal principal = provider.verify(token(provider)).orElseThrow().getPrincipal();
+
+        assertEquals(5L, principal.getId());
+        assertEquals("customer5", principal.getUsername());
+        assertEquals(Role.CUSTOMER, principal.getRole());
+        assertNull(principal.getPassword());
+    }
+
+    @Test
+    void verify_SameTokenTwice_ReturnsCachedResult() {
+        JwtTokenProvider provider = provider(60_000, false, true);
+        String token = token(provider);
+
+        VerifiedToken first = provider.verify(token).orElseThrow();
+        VerifiedToken second = provider.verify(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_CacheDisabled_VerifiesEveryTime() {
+        JwtTokenProvider provider = provider(60_000, false, false);
+        String token = token(provider);
+
+        VerifiedToken first = provider.verify(token).orElseThrow();
+        VerifiedToken second = provider.verify(token).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void verify_TamperedToken_ReturnsEmpty() {
+        JwtTokenProvider provider = provider(60_000, false, true);
+        String token = token(provider);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertTrue(provider.verify(tampered).isEmpty());
+        assertTrue(provider.verify("garbage").isEmpty());
+    }
+
+    @Test
+    void verify_TokenSignedWithOtherKey_ReturnsEmpty() {
+        JwtTokenProvider other = new JwtTokenProvider("anotherSecretKey12345678901234567890123456", 60_000, false, true, 100, 300);
+
+        assertTrue(provider(60_000, false, true).verify(token(other)).isEmpty());
+    }
+
+    @Test
+    void verify_ExpiredToken_ReturnsEmpty() {
+        JwtTokenProvider provider = provider(-1_000, false, true);
+
+        assertTrue(provider.verify(token(provider)).isEmpty());
+    }
+
+    @Test
+    void verify_CachedTokenExpires_ReturnsEmpty() throws InterruptedException {
+        JwtTokenProvider provider = provider(1_000, false, true);
+        String token = token(provider);
+        assertTrue(provider.verify(token).isPresent());
+
+        Thread.sleep(1_100);
+
+        assertTrue(provider.verify(token).isEmpty());
+    }
+
+    @Test
+    void getUserIdFromJWT_InvalidToken_ThrowsException() {
+        JwtTokenProvider provider = provider(60_000, false, true);
+
+        assertThrows(JwtException.class, () -> provider.getUserIdFromJWT("garbage"));
+        assertFalse(provider.validateToken("garbage"));
+    }
+
+    private JwtTokenProvider provider(int expirationMs, boolean embedClaims, boolean cacheEnabled) {
+        return new JwtTokenProvider(SECRET, expirationMs, embedClaims, cacheEnabled, 100, 300);
+    }
+
+    private String token(JwtTokenProvider provider) {
+        UserPrincipal principal = new UserPrincipal(5L, "customer5", "hashed", Role.CUSTOMER);
+        return provider.generateToken(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.brokage.infrastructure.security;
+
+import com.brokage.domain.entity.Customer;
+import com.brokage.domain.enums.Role;
+import com.brokage.infrastructure.config.JpaConfig;
+import com.brokage.infrastructure.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, PrincipalCache.class, PrincipalCacheEvictionListener.class})
+class PrincipalCacheEvictionListenerTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Test
+    void customerUpdated_EvictsCachedPrincipal() {
+        Customer customer = customerRepository.saveAndFlush(customer("evictme"));
+        principalCache.get(customer.getId(), id -> UserPrincipal.create(customer));
+        assertEquals(1, principalCache.size());
+
+        customer.setRole(Role.ADMIN);
+        customerRepository.saveAndFlush(customer);
+
+        assertEquals(0, principalCache.size());
+    }
+
+    @Test
+    void customerDeleted_EvictsCachedPrincipal() {
+        Customer customer = customerRepository.saveAndFlush(customer("deleteme"));
+        principalCache.get(customer.getId(), id -> UserPrincipal.create(customer));
+
+        customerRepository.delete(customer);
+        customerRepository.flush();
+
+        assertEquals(0, principalCache.size());
+    }
+
+    private Customer customer(String username) {
+        Customer customer = new Customer();
+        customer.setUsername(username);
+        customer.setPassword("hashed");
+        customer.setRole(Role.CUSTOMER);
+        return customer;
+    }
+}
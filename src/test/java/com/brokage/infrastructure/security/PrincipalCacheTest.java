@@ -0,0 +1,108 @@
+package com.brokage.infrastructure.security;
+
+import com.brokage.domain.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, UserPrincipal> loader = id -> {
+        loads.incrementAndGet();
+        return new UserPrincipal(id, "customer" + id, "hashed", Role.CUSTOMER);
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_RepeatedLookup_LoadsOnce() {
+        PrincipalCache cache = new PrincipalCache(true, 100, 60);
+
+        UserPrincipal first = cache.get(1L, loader);
+        UserPrincipal second = cache.get(1L, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_LoaderThrowsError_RethrowsAndLoadsAgain() {
+        PrincipalCache cache = new PrincipalCache(true, 100, 60);
+
+        assertThrows(AssertionError.class, () -> cache.get(1L, id -> {
+            throw new AssertionError("corrupt row");
+        }));
+        cache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_CachedPrincipal_HasNoPassword() {
+        PrincipalCache cache = new PrincipalCache(true, 100, 60);
+
+        UserPrincipal principal = cache.get(1L, loader);
+
+        assertNull(principal.getPassword());
+        assertEquals("customer1", principal.getUsername());
+        assertEquals(Role.CUSTOMER, principal.getRole());
+    }
+
+    @Test
+    void get_Disabled_LoadsEveryTime() {
+        PrincipalCache cache = new PrincipalCache(false, 100, 60);
+
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_ZeroTtl_ReloadsEveryTime() {
+        PrincipalCache cache = new PrincipalCache(true, 100, 0);
+
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evict_CachedPrincipal_ReloadsOnNextLookup() {
+        PrincipalCache cache = new PrincipalCache(true, 100, 60);
+        cache.get(1L, loader);
+
+        cache.evict(1L);
+        cache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evict_InTransaction_EvictsAgainAfterCompletion() {
+        PrincipalCache cache = new PrincipalCache(true, 100, 60);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(1L);
+        cache.get(1L, loader);
+        assertEquals(1, cache.size());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(0, cache.size());
+    }
+}